@@ -31,12 +31,16 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import javax.script.Bindings;
 import javax.script.ScriptContext;
 import javax.script.ScriptException;
 
@@ -50,6 +54,7 @@ import org.openhab.automation.jsscripting.internal.fs.DelegatingFileSystem;
 import org.openhab.automation.jsscripting.internal.fs.PrefixedSeekableByteChannel;
 import org.openhab.automation.jsscripting.internal.fs.ReadOnlySeekableByteArrayChannel;
 import org.openhab.automation.jsscripting.internal.fs.watch.JSDependencyTracker;
+import org.openhab.automation.jsscripting.internal.scriptengine.AttributeRecordingScriptContext;
 import org.openhab.automation.jsscripting.internal.scriptengine.InvocationInterceptingScriptEngineWithInvocableAndAutoCloseable;
 import org.openhab.core.automation.module.script.ScriptExtensionAccessor;
 import org.openhab.core.items.Item;
@@ -137,27 +142,48 @@ public class OpenhabGraalJSScriptEngine
     private @Nullable Consumer<String> scriptDependencyListener;
     private String engineIdentifier; // this field is very helpful for debugging, please do not remove it
 
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
     private final boolean injectionEnabled;
     private final boolean injectionCachingEnabled;
 
+    private final JSScriptServiceUtil jsScriptServiceUtil;
+    private final Path libraryPath;
+    /** Maximum number of contexts evaluating this script at the same time, including the main context */
+    private final int contextPoolSize;
+    private final @Nullable AttributeRecordingScriptContext recordingContext;
+    private final Queue<PooledContext> idleContexts = new ConcurrentLinkedQueue<>();
+    /** Names of the recorded attributes applied to the main context, guarded by the lock */
+    private Set<String> appliedAttributes = Set.of();
+    private final AtomicInteger pooledContextCount = new AtomicInteger();
+    private @Nullable ScriptExtensionAccessor scriptExtensionAccessor;
+    private volatile boolean closed = false;
+
     /**
      * Creates an implementation of ScriptEngine {@code (& Invocable)}, wrapping the contained engine,
      * that tracks the script lifecycle and provides hooks for scripts to do so too.
      */
-    public OpenhabGraalJSScriptEngine(boolean injectionEnabled, boolean injectionCachingEnabled,
+    public OpenhabGraalJSScriptEngine(boolean injectionEnabled, boolean injectionCachingEnabled, int contextPoolSize,
             JSScriptServiceUtil jsScriptServiceUtil, JSDependencyTracker jsDependencyTracker) {
         super(null); // delegate depends on fields not yet initialised, so we cannot set it immediately
         this.injectionEnabled = injectionEnabled;
         this.injectionCachingEnabled = injectionCachingEnabled;
+        this.contextPoolSize = contextPoolSize;
+        this.jsScriptServiceUtil = jsScriptServiceUtil;
+        this.libraryPath = jsDependencyTracker.getLibraryPath();
         this.jsRuntimeFeatures = jsScriptServiceUtil.getJSRuntimeFeatures(lock);
 
         LOGGER.debug("Initializing GraalJS script engine...");
 
-        delegate = GraalJSScriptEngine.create(ENGINE,
+        delegate = createGraalJSScriptEngine();
+        // pooled contexts get the attributes set by the rule engine from the recording context
+        recordingContext = contextPoolSize > 1 ? new AttributeRecordingScriptContext(delegate.getContext()) : null;
+    }
+
+    private GraalJSScriptEngine createGraalJSScriptEngine() {
+        return GraalJSScriptEngine.create(ENGINE,
                 Context.newBuilder("js").allowExperimentalOptions(true).allowAllAccess(true)
                         .allowHostAccess(HOST_ACCESS)
-                        .option("js.commonjs-require-cwd", jsDependencyTracker.getLibraryPath().toString())
+                        .option("js.commonjs-require-cwd", libraryPath.toString())
                         .option("js.nashorn-compat", "true") // Enable Nashorn compat mode as openhab-js relies on
                                                              // accessors, see
                                                              // https://github.com/oracle/graaljs/blob/master/docs/user/NashornMigrationGuide.md#accessors
@@ -230,6 +256,12 @@ public class OpenhabGraalJSScriptEngine
         lock.lock();
 
         if (initialized) {
+            AttributeRecordingScriptContext recordingContext = this.recordingContext;
+            if (recordingContext != null) {
+                // attributes set while the main context was in use by another thread are only recorded
+                appliedAttributes = applyAttributes(delegate, appliedAttributes,
+                        recordingContext.snapshotEngineScopeAttributes());
+            }
             return;
         }
 
@@ -259,34 +291,52 @@ public class OpenhabGraalJSScriptEngine
         }
         scriptDependencyListener = localScriptDependencyListener;
 
+        this.scriptExtensionAccessor = scriptExtensionAccessor;
+
+        AttributeRecordingScriptContext recordingContext = this.recordingContext;
+        if (recordingContext != null) {
+            // from now on, attributes are the execution context of the thread evaluating the script
+            appliedAttributes = recordingContext.snapshotEngineScopeAttributes().keySet();
+            recordingContext.recordPerThread();
+        }
+
+        initialized = true;
+
+        initializeContext(delegate, lock, jsRuntimeFeatures, scriptExtensionAccessor, localEngineIdentifier);
+    }
+
+    /**
+     * Injects the require wrapper, the runtime features, the globals and (if enabled) openhab-js into a context.
+     * The lock of the context must be held by the calling thread.
+     */
+    private void initializeContext(GraalJSScriptEngine engine, Lock contextLock, JSRuntimeFeatures features,
+            ScriptExtensionAccessor scriptExtensionAccessor, String engineIdentifier) {
         ScriptExtensionModuleProvider scriptExtensionModuleProvider = new ScriptExtensionModuleProvider(
-                scriptExtensionAccessor, lock);
+                scriptExtensionAccessor, contextLock);
 
         // Wrap the "require" function to also allow loading modules from the ScriptExtensionModuleProvider
         Function<Function<Object[], Object>, Function<String, Object>> wrapRequireFn = originalRequireFn -> moduleName -> scriptExtensionModuleProvider
-                .locatorFor(delegate.getPolyglotContext(), localEngineIdentifier).locateModule(moduleName)
+                .locatorFor(engine.getPolyglotContext(), engineIdentifier).locateModule(moduleName)
                 .map(m -> (Object) m).orElseGet(() -> originalRequireFn.apply(new Object[] { moduleName }));
-        delegate.getBindings(ScriptContext.ENGINE_SCOPE).put(REQUIRE_WRAPPER_NAME, wrapRequireFn);
-        delegate.put("require", wrapRequireFn.apply((Function<Object[], Object>) delegate.get("require")));
+        engine.getBindings(ScriptContext.ENGINE_SCOPE).put(REQUIRE_WRAPPER_NAME, wrapRequireFn);
+        engine.put("require", wrapRequireFn.apply((Function<Object[], Object>) engine.get("require")));
 
         // Injections into the JS runtime
-        jsRuntimeFeatures.getFeatures().forEach((key, obj) -> {
+        features.getFeatures().forEach((key, obj) -> {
             LOGGER.debug("Injecting {} into the JS runtime...", key);
-            delegate.put(key, obj);
+            engine.put(key, obj);
         });
 
-        initialized = true;
-
         try {
             LOGGER.debug("Evaluating cached global script...");
-            delegate.getPolyglotContext().eval(GLOBAL_SOURCE);
+            engine.getPolyglotContext().eval(GLOBAL_SOURCE);
             if (this.injectionEnabled) {
                 if (this.injectionCachingEnabled) {
                     LOGGER.debug("Evaluating cached openhab-js injection...");
-                    delegate.getPolyglotContext().eval(OPENHAB_JS_SOURCE);
+                    engine.getPolyglotContext().eval(OPENHAB_JS_SOURCE);
                 } else {
                     LOGGER.debug("Evaluating openhab-js injection from the file system...");
-                    eval(OPENHAB_JS_INJECTION_CODE);
+                    engine.eval(OPENHAB_JS_INJECTION_CODE);
                 }
             }
             LOGGER.debug("Successfully initialized GraalJS script engine.");
@@ -295,6 +345,66 @@ public class OpenhabGraalJSScriptEngine
         }
     }
 
+    @Override
+    public Object eval(String s) throws ScriptException {
+        AttributeRecordingScriptContext recordingContext = this.recordingContext;
+        if (recordingContext == null) {
+            return super.eval(s);
+        }
+        // taken before acquiring a context, as other threads may change their attributes in the meantime
+        Map<String, Object> attributes = recordingContext.snapshotEngineScopeAttributes();
+        PooledContext pooledContext = acquirePooledContext(attributes);
+        if (pooledContext == null) {
+            return super.eval(s);
+        }
+        try {
+            return pooledContext.eval(s, attributes);
+        } finally {
+            releasePooledContext(pooledContext);
+        }
+    }
+
+    /**
+     * Returns a pooled context if the main context is busy and the pool is enabled. Only scripts evaluated as a whole
+     * (e.g. the script actions of UI rules and transformations) use the pool, as functions defined by a script live in
+     * the main context.
+     *
+     * @param attributes the engine scope attributes of the evaluation
+     * @return an initialized context, or null if the evaluation should use the main context
+     */
+    private @Nullable PooledContext acquirePooledContext(Map<String, Object> attributes) {
+        if (contextPoolSize <= 1 || !initialized || closed) {
+            return null;
+        }
+        if (lock.tryLock()) {
+            // the main context is idle (or used by this thread)
+            lock.unlock();
+            return null;
+        }
+        PooledContext pooledContext = idleContexts.poll();
+        if (pooledContext != null) {
+            return pooledContext;
+        }
+        if (pooledContextCount.incrementAndGet() < contextPoolSize) {
+            try {
+                return new PooledContext(attributes);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not create pooled GraalJS context: {}", e.getMessage());
+            }
+        }
+        // wait for the main context
+        pooledContextCount.decrementAndGet();
+        return null;
+    }
+
+    private void releasePooledContext(PooledContext pooledContext) {
+        if (closed) {
+            pooledContext.close();
+        } else {
+            idleContexts.add(pooledContext);
+        }
+    }
+
     @Override
     protected Object afterInvocation(Object obj) {
         lock.unlock();
@@ -307,9 +417,103 @@ public class OpenhabGraalJSScriptEngine
         return super.afterThrowsInvocation(e);
     }
 
+    @Override
+    public ScriptContext getContext() {
+        AttributeRecordingScriptContext recordingContext = this.recordingContext;
+        return recordingContext != null ? recordingContext : super.getContext();
+    }
+
+    @Override
+    public void put(String s, Object o) {
+        AttributeRecordingScriptContext recordingContext = this.recordingContext;
+        if (recordingContext != null) {
+            // does not write through to the main context while it may be in use by another thread
+            recordingContext.setAttribute(s, o, ScriptContext.ENGINE_SCOPE);
+        } else {
+            super.put(s, o);
+        }
+    }
+
+    @Override
+    public Object get(String s) {
+        AttributeRecordingScriptContext recordingContext = this.recordingContext;
+        return recordingContext != null ? recordingContext.getAttribute(s, ScriptContext.ENGINE_SCOPE)
+                : super.get(s);
+    }
+
+    /**
+     * Replaces the attributes of the last evaluation of a context, so that e.g. the event of the last run is not
+     * visible to a run without event. The lock of the context must be held by the calling thread.
+     *
+     * @param engine the engine of the context
+     * @param applied the names of the attributes applied for the last evaluation
+     * @param attributes the attributes of the next evaluation
+     * @return the names of the applied attributes
+     */
+    private static Set<String> applyAttributes(GraalJSScriptEngine engine, Set<String> applied,
+            Map<String, Object> attributes) {
+        Bindings bindings = engine.getBindings(ScriptContext.ENGINE_SCOPE);
+        for (String name : applied) {
+            if (!attributes.containsKey(name)) {
+                bindings.remove(name);
+            }
+        }
+        attributes.forEach(engine::put);
+        return attributes.keySet();
+    }
+
     @Override
     public void close() {
+        closed = true;
         jsRuntimeFeatures.close();
+        PooledContext pooledContext;
+        while ((pooledContext = idleContexts.poll()) != null) {
+            pooledContext.close();
+        }
+    }
+
+    /**
+     * Additional context for evaluating the script while the main context is busy.
+     *
+     * The globals of a pooled context are not shared with the main context or other pooled contexts. Scripts that
+     * need to keep state between runs have to use the caches provided by openhab-js.
+     */
+    private class PooledContext {
+        private final Lock contextLock = new ReentrantLock();
+        private final GraalJSScriptEngine engine = createGraalJSScriptEngine();
+        private final JSRuntimeFeatures features = jsScriptServiceUtil.getJSRuntimeFeatures(contextLock);
+        /** Names of the attributes applied for the last evaluation */
+        private Set<String> appliedAttributes = Set.of();
+
+        PooledContext(Map<String, Object> attributes) {
+            ScriptExtensionAccessor scriptExtensionAccessor = OpenhabGraalJSScriptEngine.this.scriptExtensionAccessor;
+            if (scriptExtensionAccessor == null) {
+                throw new IllegalStateException("Main context not initialized");
+            }
+            contextLock.lock();
+            try {
+                LOGGER.debug("Initializing pooled GraalJS context for engine {}...", engineIdentifier);
+                appliedAttributes = applyAttributes(engine, appliedAttributes, attributes);
+                initializeContext(engine, contextLock, features, scriptExtensionAccessor, engineIdentifier);
+            } finally {
+                contextLock.unlock();
+            }
+        }
+
+        Object eval(String s, Map<String, Object> attributes) throws ScriptException {
+            contextLock.lock();
+            try {
+                appliedAttributes = applyAttributes(engine, appliedAttributes, attributes);
+                return engine.eval(s);
+            } finally {
+                contextLock.unlock();
+            }
+        }
+
+        void close() {
+            features.close();
+            engine.close();
+        }
     }
 
     /**
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.scriptengine;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.script.Bindings;
+import javax.script.ScriptContext;
+
+/**
+ * {@link ScriptContext} delegate remembering the engine scope attributes set from Java, so that they can be passed
+ * to other contexts without accessing the delegate.
+ * <p>
+ * Attributes set before {@link #recordPerThread()} is called, e.g. the presets of the script engine manager, are
+ * shared by all threads and written through to the delegate. Attributes set afterwards, e.g. the execution context
+ * set by the rule engine before it evaluates the script on the same thread, are only recorded and visible to the
+ * thread setting them, as the delegate may be in use by another thread. The script engine applies them to its
+ * contexts before each evaluation.
+ *
+ * @author Agent - Initial contribution
+ */
+public class AttributeRecordingScriptContext implements ScriptContext {
+    private final ScriptContext delegate;
+    private final Map<String, Object> sharedAttributes = new ConcurrentHashMap<>();
+    private final ThreadLocal<Map<String, Object>> threadAttributes = ThreadLocal.withInitial(HashMap::new);
+    private volatile boolean perThread = false;
+
+    public AttributeRecordingScriptContext(ScriptContext delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Records the engine scope attributes set from now on per thread.
+     */
+    public void recordPerThread() {
+        perThread = true;
+    }
+
+    /**
+     * Returns the engine scope attributes visible to the calling thread, e.g. the execution context of the rule that
+     * is about to be evaluated on this thread.
+     *
+     * @return an immutable snapshot of the attributes by name
+     */
+    public Map<String, Object> snapshotEngineScopeAttributes() {
+        Map<String, Object> attributes = new HashMap<>(sharedAttributes);
+        attributes.putAll(threadAttributes.get());
+        return Map.copyOf(attributes);
+    }
+
+    /**
+     * Records an engine scope attribute set directly on the engine.
+     *
+     * @param name the attribute name
+     * @param value the attribute value
+     */
+    public void recordEngineScopeAttribute(String name, Object value) {
+        if (value == null) {
+            removeEngineScopeAttribute(name);
+        } else if (perThread) {
+            threadAttributes.get().put(name, value);
+        } else {
+            sharedAttributes.put(name, value);
+        }
+    }
+
+    private void removeEngineScopeAttribute(String name) {
+        sharedAttributes.remove(name);
+        Map<String, Object> attributes = threadAttributes.get();
+        attributes.remove(name);
+        if (attributes.isEmpty()) {
+            // do not keep the map of the rule engine threads
+            threadAttributes.remove();
+        }
+    }
+
+    @Override
+    public void setBindings(Bindings bindings, int scope) {
+        delegate.setBindings(bindings, scope);
+        if (scope == ENGINE_SCOPE) {
+            sharedAttributes.clear();
+            threadAttributes.remove();
+        }
+    }
+
+    @Override
+    public Bindings getBindings(int scope) {
+        return delegate.getBindings(scope);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value, int scope) {
+        if (scope != ENGINE_SCOPE || !perThread) {
+            delegate.setAttribute(name, value, scope);
+        }
+        if (scope == ENGINE_SCOPE) {
+            recordEngineScopeAttribute(name, value);
+        }
+    }
+
+    @Override
+    public Object getAttribute(String name, int scope) {
+        Object value = scope == ENGINE_SCOPE ? getRecordedAttribute(name) : null;
+        return value != null ? value : delegate.getAttribute(name, scope);
+    }
+
+    @Override
+    public Object removeAttribute(String name, int scope) {
+        if (scope == ENGINE_SCOPE && perThread) {
+            Object value = getRecordedAttribute(name);
+            removeEngineScopeAttribute(name);
+            return value;
+        }
+        if (scope == ENGINE_SCOPE) {
+            removeEngineScopeAttribute(name);
+        }
+        return delegate.removeAttribute(name, scope);
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        Object value = getRecordedAttribute(name);
+        return value != null ? value : delegate.getAttribute(name);
+    }
+
+    private Object getRecordedAttribute(String name) {
+        Object value = threadAttributes.get().get(name);
+        return value != null ? value : sharedAttributes.get(name);
+    }
+
+    @Override
+    public int getAttributesScope(String name) {
+        return delegate.getAttributesScope(name);
+    }
+
+    @Override
+    public Writer getWriter() {
+        return delegate.getWriter();
+    }
+
+    @Override
+    public Writer getErrorWriter() {
+        return delegate.getErrorWriter();
+    }
+
+    @Override
+    public void setWriter(Writer writer) {
+        delegate.setWriter(writer);
+    }
+
+    @Override
+    public void setErrorWriter(Writer writer) {
+        delegate.setErrorWriter(writer);
+    }
+
+    @Override
+    public Reader getReader() {
+        return delegate.getReader();
+    }
+
+    @Override
+    public void setReader(Reader reader) {
+        delegate.setReader(reader);
+    }
+
+    @Override
+    public List<Integer> getScopes() {
+        return delegate.getScopes();
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.automation.jsscripting.internal.scriptengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.script.ScriptContext;
+import javax.script.SimpleScriptContext;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link AttributeRecordingScriptContext}.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class AttributeRecordingScriptContextTest {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Behaves like the context of a GraalJS engine, which must not be accessed while another thread uses it.
+     */
+    private class LockedScriptContext extends SimpleScriptContext {
+        private void checkAccess() {
+            if (lock.isLocked() && !lock.isHeldByCurrentThread()) {
+                throw new IllegalStateException("Multi threaded access");
+            }
+        }
+
+        @Override
+        public void setAttribute(String name, Object value, int scope) {
+            checkAccess();
+            super.setAttribute(name, value, scope);
+        }
+
+        @Override
+        public Object removeAttribute(String name, int scope) {
+            checkAccess();
+            return super.removeAttribute(name, scope);
+        }
+    }
+
+    @Test
+    public void testPutFromSecondThreadWhileMainContextIsLocked() throws Exception {
+        LockedScriptContext delegate = new LockedScriptContext();
+        AttributeRecordingScriptContext context = new AttributeRecordingScriptContext(delegate);
+        context.setAttribute("preset", "shared", ScriptContext.ENGINE_SCOPE);
+        context.recordPerThread();
+
+        lock.lock();
+        try {
+            Map<String, Object> attributes = CompletableFuture.supplyAsync(() -> {
+                context.setAttribute("event", "second", ScriptContext.ENGINE_SCOPE);
+                Map<String, Object> snapshot = context.snapshotEngineScopeAttributes();
+                context.removeAttribute("event", ScriptContext.ENGINE_SCOPE);
+                return snapshot;
+            }).get();
+
+            assertEquals(Map.of("preset", "shared", "event", "second"), attributes);
+            assertNull(delegate.getAttribute("event", ScriptContext.ENGINE_SCOPE));
+            assertEquals(Map.of("preset", "shared"), context.snapshotEngineScopeAttributes());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Test
+    public void testAttributesAreOnlyVisibleToTheSettingThread() throws Exception {
+        AttributeRecordingScriptContext context = new AttributeRecordingScriptContext(new SimpleScriptContext());
+        context.recordPerThread();
+        context.setAttribute("event", "first", ScriptContext.ENGINE_SCOPE);
+
+        Object other = CompletableFuture.supplyAsync(() -> context.getAttribute("event", ScriptContext.ENGINE_SCOPE))
+                .get();
+
+        assertNull(other);
+        assertEquals("first", context.getAttribute("event", ScriptContext.ENGINE_SCOPE));
+    }
+}
@@ -18,6 +18,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -89,11 +90,9 @@ import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * This class handles HTTP and SSE connections to/from a Hue Bridge running CLIP 2.
@@ -898,24 +897,7 @@ public class Clip2Bridge implements Closeable {
         } else {
             LOGGER.debug("onEventData() data length:{}", data.length());
         }
-        JsonElement jsonElement;
-        try {
-            jsonElement = JsonParser.parseString(data);
-        } catch (JsonSyntaxException e) {
-            LOGGER.debug("onEventData() invalid data '{}'", data, e);
-            return;
-        }
-        if (!(jsonElement instanceof JsonArray)) {
-            LOGGER.debug("onEventData() data is not a JsonArray {}", data);
-            return;
-        }
-        List<Event> events;
-        try {
-            events = jsonParser.fromJson(jsonElement, Event.EVENT_LIST_TYPE);
-        } catch (JsonParseException e) {
-            LOGGER.debug("onEventData() parsing error json:{}", data, e);
-            return;
-        }
+        List<Event> events = parseEvents(data);
         if (Objects.isNull(events) || events.isEmpty()) {
             LOGGER.debug("onEventData() event list is null or empty");
             return;
@@ -930,6 +912,31 @@ public class Clip2Bridge implements Closeable {
         bridgeHandler.onResourcesEvent(resources);
     }
 
+    /**
+     * Parse the text of an event stream message into a list of Event entries. The text is decoded in a single pass
+     * without building an intermediate JSON tree.
+     *
+     * @param data the incoming (presumed to be JSON) text.
+     * @return the list of events, or null if the text is not a valid JSON array of events.
+     */
+    private @Nullable List<Event> parseEvents(String data) {
+        try (JsonReader reader = new JsonReader(new StringReader(data))) {
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                LOGGER.debug("onEventData() data is not a JsonArray {}", data);
+                return null;
+            }
+            List<Event> events = jsonParser.fromJson(reader, Event.EVENT_LIST_TYPE);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                LOGGER.debug("onEventData() invalid data '{}'", data);
+                return null;
+            }
+            return events;
+        } catch (JsonParseException | IOException e) {
+            LOGGER.debug("onEventData() parsing error json:{}", data, e);
+            return null;
+        }
+    }
+
     /**
      * Open the HTTP 2 session and the event stream.
      *
@@ -15,8 +15,10 @@ package org.openhab.binding.hue.internal.handler;
 import static org.openhab.binding.hue.internal.HueBindingConstants.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -117,6 +119,14 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private @Nullable ScheduledFuture<?> scheduledUpdateTask;
     private Map<Integer, Future<?>> resourcesEventTasks = new ConcurrentHashMap<>();
 
+    /**
+     * Index of the child thing handlers by the resource ids they are interested in. It is built on demand, and set to
+     * null whenever a child handler is added or removed, or its resource ids change.
+     */
+    private @Nullable Map<String, List<Clip2ThingHandler>> resourceIdIndex;
+    private final Object resourceIdIndexLock = new Object();
+    private int resourceIdIndexGeneration;
+
     private boolean assetsLoaded;
     private int applKeyRetriesRemaining;
     private int connectRetriesRemaining;
@@ -250,6 +260,27 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        childResourceIdsChanged();
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        childResourceIdsChanged();
+    }
+
+    /**
+     * Called when the set of resource ids a child thing handler is interested in has changed. Invalidates the index,
+     * so that it is rebuilt with the next SSE event.
+     */
+    public void childResourceIdsChanged() {
+        synchronized (resourceIdIndexLock) {
+            resourceIdIndexGeneration++;
+            resourceIdIndex = null;
+        }
+    }
+
     @Override
     public void dispose() {
         if (assetsLoaded) {
@@ -511,8 +542,8 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform all
-     * child thing handlers with the respective resource.
+     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform the
+     * child thing handlers which are interested in the respective resource.
      *
      * @param resources a list of incoming resource objects.
      */
@@ -535,11 +566,62 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         if (numberOfResources != resources.size()) {
             logger.debug("onResourcesEventTask() merged to {} resources", resources.size());
         }
+        Map<Clip2ThingHandler, List<Resource>> resourcesByHandler = groupByHandler(resources, getResourceIdIndex());
+        logger.debug("onResourcesEventTask() routed to {} thing handlers", resourcesByHandler.size());
+        resourcesByHandler.forEach((handler, handlerResources) -> handler.onResources(handlerResources));
+    }
+
+    /**
+     * Return the index of the child thing handlers by resource id, and build it if necessary.
+     *
+     * @return the map of resource ids to the thing handlers interested in them.
+     */
+    private Map<String, List<Clip2ThingHandler>> getResourceIdIndex() {
+        int generation;
+        synchronized (resourceIdIndexLock) {
+            Map<String, List<Clip2ThingHandler>> index = resourceIdIndex;
+            if (Objects.nonNull(index)) {
+                return index;
+            }
+            generation = resourceIdIndexGeneration;
+        }
+        Map<String, List<Clip2ThingHandler>> index = new HashMap<>();
         getThing().getThings().forEach(thing -> {
             if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
-                clip2ThingHandler.onResources(resources);
+                clip2ThingHandler.getResourceIds()
+                        .forEach(id -> index.computeIfAbsent(id, k -> new ArrayList<>(1)).add(clip2ThingHandler));
             }
         });
+        synchronized (resourceIdIndexLock) {
+            // do not keep the index if it was invalidated while being built
+            if (generation == resourceIdIndexGeneration) {
+                resourceIdIndex = index;
+            }
+        }
+        logger.debug("getResourceIdIndex() indexed {} resource ids", index.size());
+        return index;
+    }
+
+    /**
+     * Split a list of resources into one batch per interested thing handler, keeping the order of the resources.
+     * Resources that no thing handler is interested in are dropped.
+     *
+     * @param resources the list of resources.
+     * @param resourceIdIndex the map of resource ids to the thing handlers interested in them.
+     * @return the batches of resources by thing handler.
+     */
+    static Map<Clip2ThingHandler, List<Resource>> groupByHandler(List<Resource> resources,
+            Map<String, List<Clip2ThingHandler>> resourceIdIndex) {
+        Map<Clip2ThingHandler, List<Resource>> resourcesByHandler = new LinkedHashMap<>();
+        for (Resource resource : resources) {
+            List<Clip2ThingHandler> handlers = resourceIdIndex.get(resource.getId());
+            if (Objects.nonNull(handlers)) {
+                for (Clip2ThingHandler handler : handlers) {
+                    resourcesByHandler.computeIfAbsent(handler, k -> new ArrayList<>()).add(resource);
+                }
+            }
+        }
+        return resourcesByHandler;
     }
 
     /**
@@ -295,6 +295,33 @@ public class Clip2ThingHandler extends BaseThingHandler {
         return Objects.nonNull(commandResourceId) ? serviceContributorsCache.get(commandResourceId) : null;
     }
 
+    /**
+     * Return the ids of all resources that contribute to the thing state, i.e. the thing's own resource, its service
+     * contributors and its scene contributors. The bridge handler only routes SSE events for these ids to this handler.
+     *
+     * @return the set of resource ids.
+     */
+    public Set<String> getResourceIds() {
+        Set<String> resourceIds = new HashSet<>();
+        if (!disposing) {
+            resourceIds.add(resourceId);
+            resourceIds.addAll(serviceContributorsCache.keySet());
+            resourceIds.addAll(sceneContributorsCache.keySet());
+        }
+        return resourceIds;
+    }
+
+    /**
+     * Inform the bridge handler that the result of getResourceIds() has changed.
+     */
+    private void resourceIdsChanged() {
+        try {
+            getBridgeHandler().childResourceIdsChanged();
+        } catch (AssetNotLoadedException e) {
+            // the bridge handler builds its index from scratch when it is back
+        }
+    }
+
     /**
      * Return a ResourceReference to this handler's resource.
      *
@@ -1104,6 +1131,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
             serviceContributorsCache.clear();
             serviceContributorsCache.putAll(services.stream()
                     .collect(Collectors.toMap(ResourceReference::getId, r -> new Resource(r.getType()))));
+            resourceIdsChanged();
 
             // add supported services to commandResourceIds
             commandResourceIds.clear();
@@ -1252,6 +1280,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                 logger.debug("{} -> updateSceneContributors() found {} normal resp. smart scenes", resourceId,
                         scenes.size());
             }
+            resourceIdsChanged();
             updateSceneContributorsDone = true;
         }
         return updateSceneContributorsDone;
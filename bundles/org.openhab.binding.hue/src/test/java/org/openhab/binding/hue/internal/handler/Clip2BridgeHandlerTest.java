@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Event;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.serialization.InstantDeserializer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * JUnit test for the routing of SSE resources to the CLIP 2 thing handlers.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+class Clip2BridgeHandlerTest {
+
+    private static final Gson GSON = new GsonBuilder().registerTypeAdapter(Instant.class, new InstantDeserializer())
+            .create();
+
+    private static final String LIGHT_ID = "09837085-7c06-45e1-92de-a2fa76dbbccb";
+    private static final String GROUPED_LIGHT_ID = "6e2fee8d-c25f-4468-8ac8-5ed75c6f3cf1";
+    private static final String SCENE_ID = "fc344d9a-4c63-4e38-8082-d23b48b2152c";
+
+    /**
+     * Replay the captured event burst and return its resources in order.
+     */
+    private List<Resource> loadEventResources() throws IOException {
+        String json = Files.readString(Path.of("src/test/resources/event.json"));
+        List<Event> events = GSON.fromJson(json, Event.EVENT_LIST_TYPE);
+        assertNotNull(events);
+        List<Resource> resources = new ArrayList<>();
+        events.forEach(event -> resources.addAll(event.getData()));
+        return resources;
+    }
+
+    @Test
+    void testGroupByHandler() throws IOException {
+        List<Resource> resources = loadEventResources();
+
+        Clip2ThingHandler lightHandler = mock(Clip2ThingHandler.class);
+        Clip2ThingHandler roomHandler = mock(Clip2ThingHandler.class);
+        Map<String, List<Clip2ThingHandler>> index = new HashMap<>();
+        index.put(LIGHT_ID, List.of(lightHandler));
+        index.put(GROUPED_LIGHT_ID, List.of(roomHandler));
+        index.put(SCENE_ID, List.of(lightHandler, roomHandler));
+        // handlers of unrelated resources are not called
+        index.put("00000000-0000-0000-0000-000000000000", List.of(mock(Clip2ThingHandler.class)));
+
+        Map<Clip2ThingHandler, List<Resource>> batches = Clip2BridgeHandler.groupByHandler(resources, index);
+
+        assertEquals(2, batches.size());
+        List<Resource> lightBatch = batches.get(lightHandler);
+        assertNotNull(lightBatch);
+        assertEquals(List.of(LIGHT_ID, SCENE_ID), lightBatch.stream().map(Resource::getId).toList());
+        List<Resource> roomBatch = batches.get(roomHandler);
+        assertNotNull(roomBatch);
+        assertEquals(List.of(GROUPED_LIGHT_ID, GROUPED_LIGHT_ID, SCENE_ID),
+                roomBatch.stream().map(Resource::getId).toList());
+    }
+
+    @Test
+    void testGroupByHandlerWithoutInterestedHandlers() throws IOException {
+        assertTrue(Clip2BridgeHandler.groupByHandler(loadEventResources(), Map.of()).isEmpty());
+    }
+}
@@ -12,56 +12,124 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams so the frames can be given to all FIFO buffers to allow
+ * 1 to many streams without needing to open more than 1 source stream. Each frame is held once in a {@link ByteBuf}
+ * which is shared by all streams, so adding viewers does not copy the frames.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class OpenStreams {
-    private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<>());
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private List<StreamOutput> openStreams = new CopyOnWriteArrayList<>();
     public String boundary = "thisMjpegStream";
+    private volatile ByteBuf encodedBoundary = encodeBoundary(boundary);
+    // totals of the streams which have already been removed
+    private final AtomicLong droppedFrames = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
 
     public synchronized void addStream(StreamOutput stream) {
         openStreams.add(stream);
     }
 
     public synchronized void removeStream(StreamOutput stream) {
-        openStreams.remove(stream);
+        if (openStreams.remove(stream)) {
+            stream.close();
+            droppedFrames.addAndGet(stream.getDroppedFrames());
+            bytesServed.addAndGet(stream.getBytesServed());
+            logger.debug("Stream closed after sending {} bytes, {} frames were dropped as the client was too slow.",
+                    stream.getBytesServed(), stream.getDroppedFrames());
+        }
     }
 
-    public synchronized int getNumberOfStreams() {
+    public int getNumberOfStreams() {
         return openStreams.size();
     }
 
-    public synchronized boolean isEmpty() {
+    public boolean isEmpty() {
         return openStreams.isEmpty();
     }
 
     public synchronized void updateContentType(String contentType, String boundary) {
         this.boundary = boundary;
+        encodedBoundary = encodeBoundary(boundary);
         for (StreamOutput stream : openStreams) {
             stream.updateContentType(contentType);
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
+    /**
+     * Gives the frame to all streams. Each stream retains the buffer until it was sent, so the caller can release
+     * its own reference as soon as this method returns.
+     */
+    public void queueFrame(ByteBuf frame) {
         for (StreamOutput stream : openStreams) {
             stream.queueFrame(frame);
         }
     }
 
+    public void queueFrame(byte[] frame) {
+        ByteBuf buffer = Unpooled.wrappedBuffer(frame);
+        try {
+            queueFrame(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Queues the multipart boundary followed by an empty header section, used to restart the parsing of a client
+     * before a snapshot is inserted into the stream.
+     */
+    public void queueBoundary() {
+        queueFrame(encodedBoundary);
+    }
+
+    /**
+     * Returns the number of frames which were dropped because a client could not keep up with the stream.
+     */
+    public long getDroppedFrames() {
+        long dropped = droppedFrames.get();
+        for (StreamOutput stream : openStreams) {
+            dropped += stream.getDroppedFrames();
+        }
+        return dropped;
+    }
+
+    /**
+     * Returns the number of frame bytes sent to all clients.
+     */
+    public long getBytesServed() {
+        long bytes = bytesServed.get();
+        for (StreamOutput stream : openStreams) {
+            bytes += stream.getBytesServed();
+        }
+        return bytes;
+    }
+
     public synchronized void closeAllStreams() {
         for (StreamOutput stream : openStreams) {
             stream.close();
         }
         openStreams.clear();
     }
+
+    private static ByteBuf encodeBoundary(String boundary) {
+        // retain() and release() are no-ops on an unreleasable buffer, so it can be queued any number of times
+        return Unpooled.unreleasableBuffer(
+                Unpooled.wrappedBuffer(("--" + boundary + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII)));
+    }
 }
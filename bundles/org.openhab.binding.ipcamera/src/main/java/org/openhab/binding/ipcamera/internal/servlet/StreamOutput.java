@@ -13,34 +13,49 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
- * The {@link StreamOutput} Streams mjpeg out to a client
+ * The {@link StreamOutput} Streams mjpeg out to a client. Queued frames are retained buffers shared with the other
+ * streams. When the client is too slow, the oldest frame is dropped so the stream does not fall behind.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class StreamOutput {
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] END_OF_HEADERS = "\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
     private final String boundary;
+    // the part header up to the length value, only encoded once per stream
+    private final byte[] partHeaderStart;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
+    private BlockingQueue<ByteBuf> fifo = new ArrayBlockingQueue<>(50);
     private boolean connected = false;
+    private boolean closed = false;
     public boolean isSnapshotBased = false;
+    private final AtomicLong droppedFrames = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
 
     public StreamOutput(HttpServletResponse response) throws IOException {
         boundary = "thisMjpegStream";
+        partHeaderStart = encodePartHeaderStart(boundary);
         contentType = "multipart/x-mixed-replace; boundary=" + boundary;
         this.response = response;
         output = response.getOutputStream();
@@ -49,6 +64,7 @@ public class StreamOutput {
 
     public StreamOutput(HttpServletResponse response, String contentType) throws IOException {
         boundary = "";
+        partHeaderStart = encodePartHeaderStart(boundary);
         this.contentType = contentType;
         this.response = response;
         output = response.getOutputStream();
@@ -59,28 +75,52 @@ public class StreamOutput {
     }
 
     public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
-        String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
-                + currentSnapshot.length + "\r\n\r\n";
+        sendSnapshotBasedFrame(Unpooled.wrappedBuffer(currentSnapshot));
+    }
+
+    private void sendSnapshotBasedFrame(ByteBuf currentSnapshot) throws IOException {
         if (!connected) {
             sendInitialHeaders();
             // iOS needs to have two jpgs sent for the picture to appear instantly.
-            output.write(header.getBytes());
-            output.write(currentSnapshot);
-            output.write("\r\n".getBytes());
+            writePart(currentSnapshot);
             connected = true;
         }
-        output.write(header.getBytes());
-        output.write(currentSnapshot);
-        output.write("\r\n".getBytes());
+        writePart(currentSnapshot);
     }
 
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
+    private void writePart(ByteBuf frame) throws IOException {
+        output.write(partHeaderStart);
+        output.write(Integer.toString(frame.readableBytes()).getBytes(StandardCharsets.US_ASCII));
+        output.write(END_OF_HEADERS);
+        write(frame);
+        output.write(CRLF);
+    }
+
+    private void write(ByteBuf frame) throws IOException {
+        // absolute get, the reader index is shared by all streams
+        int length = frame.readableBytes();
+        frame.getBytes(frame.readerIndex(), output, length);
+        bytesServed.addAndGet(length);
+    }
+
+    /**
+     * Queues the frame and retains it until it was sent or dropped.
+     */
+    public synchronized void queueFrame(ByteBuf frame) {
+        if (closed) {
+            return;
+        }
+        frame.retain();
+        if (!fifo.offer(frame)) {
+            @Nullable
+            ByteBuf oldest = fifo.poll();
+            if (oldest != null) {
+                oldest.release();
+                if (droppedFrames.incrementAndGet() % 50 == 1) {
+                    logger.debug("FIFO buffer has run out of space, {} frames dropped so far.", droppedFrames.get());
+                }
+            }
+            fifo.offer(frame);
         }
     }
 
@@ -93,23 +133,53 @@ public class StreamOutput {
     }
 
     public void sendFrame() throws IOException, InterruptedException {
-        if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
-        } else if (connected) {
-            output.write(fifo.take());
+        ByteBuf frame = fifo.take();
+        try {
+            if (isSnapshotBased) {
+                sendSnapshotBasedFrame(frame);
+            } else if (connected) {
+                write(frame);
+            }
+        } finally {
+            frame.release();
         }
     }
 
+    /**
+     * Returns the number of frames dropped because the client could not keep up.
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    /**
+     * Returns the number of frame bytes sent to the client.
+     */
+    public long getBytesServed() {
+        return bytesServed.get();
+    }
+
     private void sendInitialHeaders() {
         response.setContentType(contentType);
         response.setHeader("Access-Control-Allow-Origin", "*");
         response.setHeader("Access-Control-Expose-Headers", "*");
     }
 
-    public void close() {
+    public synchronized void close() {
+        closed = true;
+        @Nullable
+        ByteBuf frame;
+        while ((frame = fifo.poll()) != null) {
+            frame.release();
+        }
         try {
             output.close();
         } catch (IOException e) {
         }
     }
+
+    private static byte[] encodePartHeaderStart(String boundary) {
+        return ("--" + boundary + "\r\nContent-Type: image/jpeg\r\nContent-Length: ")
+                .getBytes(StandardCharsets.US_ASCII);
+    }
 }
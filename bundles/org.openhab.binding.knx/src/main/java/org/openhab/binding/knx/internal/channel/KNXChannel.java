@@ -20,13 +20,16 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.client.InboundSpec;
 import org.openhab.binding.knx.internal.client.OutboundSpec;
 import org.openhab.binding.knx.internal.dpt.DPTUtil;
+import org.openhab.binding.knx.internal.dpt.ValueDecoder;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
@@ -36,6 +39,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
 
 /**
  * Meta-data abstraction for the KNX channel configurations.
@@ -56,6 +60,8 @@ public abstract class KNXChannel {
     private final ChannelUID channelUID;
     private final boolean isControl;
     private final Class<? extends Type> preferredType;
+    // translators by DPT, empty if Calimero does not provide a translator for the DPT
+    private final Map<String, Optional<DPTXlator>> translators = new ConcurrentHashMap<>();
 
     KNXChannel(List<Class<? extends Type>> acceptedTypes, Channel channel) {
         this(List.of(GA), acceptedTypes, channel);
@@ -175,5 +181,26 @@ public abstract class KNXChannel {
                 .filter(spec -> spec.matchesDestination(groupAddress)).findFirst().orElse(null);
     }
 
+    /**
+     * Converts the raw value received for this channel to the corresponding openHAB value. The DPT translators are
+     * created once per DPT and re-used for subsequent telegrams.
+     *
+     * @param dpt the DPT of the given data
+     * @param data a byte array containing the value
+     * @return the data converted to an openHAB Type (or null if conversion failed)
+     */
+    public final @Nullable Type decode(String dpt, byte[] data) {
+        Optional<DPTXlator> translator = translators.computeIfAbsent(dpt,
+                d -> Optional.ofNullable(ValueDecoder.createTranslator(d)));
+        if (translator.isEmpty()) {
+            // DPTs decoded by special handling in the decoder
+            return ValueDecoder.decode(dpt, data, preferredType);
+        }
+        DPTXlator cachedTranslator = translator.get();
+        synchronized (cachedTranslator) {
+            return ValueDecoder.decode(dpt, data, preferredType, cachedTranslator);
+        }
+    }
+
     protected abstract String getDefaultDPT(String gaConfigKey);
 }
@@ -15,9 +15,11 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -103,7 +105,9 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
+    // listeners indexed by the group addresses they listen to, and the addresses each listener was indexed with
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> listenerGroupAddresses = new ConcurrentHashMap<>();
     private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
 
     @FunctionalInterface
@@ -327,16 +331,24 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
-        }
-        // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
-        // The idea is to store GA, message type, and size as key. The value counts the number of packets.
-        if (!isHandled) {
+        Set<GroupAddressListener> listeners = groupAddressListeners.getOrDefault(destination, Set.of());
+        if (!listeners.isEmpty()) {
+            // one task per telegram, notifying all listeners of the destination
+            knxScheduler.schedule(() -> {
+                for (GroupAddressListener listener : listeners) {
+                    if (!listener.listensTo(destination)) {
+                        continue;
+                    }
+                    try {
+                        action.apply(listener, source, destination, asdu);
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to process {} telegram for '{}': {}", task, destination, e.getMessage());
+                    }
+                }
+            }, 0, TimeUnit.SECONDS);
+        } else {
+            // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
+            // The idea is to store GA, message type, and size as key. The value counts the number of packets.
             logger.trace("Address '{}' is not configured in openHAB", destination);
             final String type = switch (event.getServiceCode()) {
                 case 0x80 -> " GROUP_WRITE(";
@@ -467,12 +479,31 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        // not synchronized on this, as connecting holds that lock for a long time
+        synchronized (groupAddressListeners) {
+            unregisterGroupAddressListener(listener);
+            Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+            listenerGroupAddresses.put(listener, groupAddresses);
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfAbsent(groupAddress, ga -> new CopyOnWriteArraySet<>()).add(listener);
+            }
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        synchronized (groupAddressListeners) {
+            Set<GroupAddress> groupAddresses = listenerGroupAddresses.remove(listener);
+            if (groupAddresses == null) {
+                return;
+            }
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfPresent(groupAddress, (ga, listeners) -> {
+                    listeners.remove(listener);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+            }
+        }
     }
 
     @Override
@@ -104,6 +104,20 @@ public class ValueDecoder {
         return true;
     }
 
+    /**
+     * create a translator for the given DPT, which can be re-used for decoding values of this DPT
+     *
+     * @param dptId the DPT
+     * @return the translator (or null if Calimero does not provide a translator for this DPT)
+     */
+    public static @Nullable DPTXlator createTranslator(String dptId) {
+        try {
+            return TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+        } catch (KNXException e) {
+            return null;
+        }
+    }
+
     /**
      * convert the raw value received to the corresponding openHAB value
      *
@@ -113,12 +127,28 @@ public class ValueDecoder {
      * @return the data converted to an openHAB Type (or null if conversion failed)
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        return decode(dptId, data, preferredType, null);
+    }
+
+    /**
+     * convert the raw value received to the corresponding openHAB value, re-using a translator
+     *
+     * @param dptId the DPT of the given data
+     * @param data a byte array containing the value
+     * @param preferredType the preferred datatype for this conversion
+     * @param cachedTranslator a translator created by {@link #createTranslator(String)} for the same DPT, which must
+     *            not be used concurrently (or null to create a new translator)
+     * @return the data converted to an openHAB Type (or null if conversion failed)
+     */
+    public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType,
+            @Nullable DPTXlator cachedTranslator) {
         try {
             String value = "";
             String translatorDptId = dptId;
             DPTXlator translator;
             try {
-                translator = TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+                translator = cachedTranslator != null ? cachedTranslator
+                        : TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
                 translator.setData(data);
                 value = translator.getValue();
                 translatorDptId = translator.getType().getID();
@@ -22,6 +22,7 @@ import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -42,7 +43,6 @@ import org.openhab.binding.knx.internal.client.OutboundSpec;
 import org.openhab.binding.knx.internal.config.DeviceConfig;
 import org.openhab.binding.knx.internal.dpt.DPTUnits;
 import org.openhab.binding.knx.internal.dpt.DPTUtil;
-import org.openhab.binding.knx.internal.dpt.ValueDecoder;
 import org.openhab.binding.knx.internal.i18n.KNXTranslationProvider;
 import org.openhab.core.cache.ExpiringCacheMap;
 import org.openhab.core.library.types.IncreaseDecreaseType;
@@ -93,6 +93,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
     private final Map<GroupAddress, ScheduledFuture<?>> readFutures = new ConcurrentHashMap<>();
     private final Map<ChannelUID, ScheduledFuture<?>> channelFutures = new ConcurrentHashMap<>();
     private final Map<ChannelUID, KNXChannel> knxChannels = new ConcurrentHashMap<>();
+    private final Map<GroupAddress, List<KNXChannel>> knxChannelsByGroupAddress = new ConcurrentHashMap<>();
     private final Random random = new Random();
     protected @Nullable IndividualAddress address;
     private int readInterval;
@@ -156,6 +157,8 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
             // add channels only if they could be successfully processed
             knxChannels.put(channel.getUID(), knxChannel);
             groupAddresses.addAll(knxChannel.getAllGroupAddresses());
+            knxChannel.getAllGroupAddresses().stream().distinct().forEach(groupAddress -> knxChannelsByGroupAddress
+                    .computeIfAbsent(groupAddress, ga -> new CopyOnWriteArrayList<>()).add(knxChannel));
         }
 
         if (modified) {
@@ -178,6 +181,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         groupAddressesWriteBlocked.clear();
         groupAddressesRespondingSpec.clear();
         knxChannels.clear();
+        knxChannelsByGroupAddress.clear();
 
         detachFromClient();
     }
@@ -248,6 +252,11 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         return groupAddresses.contains(destination);
     }
 
+    @Override
+    public Set<GroupAddress> getGroupAddresses() {
+        return groupAddresses;
+    }
+
     /** Handling commands triggered from openHAB */
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
@@ -364,7 +373,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         logger.debug("onGroupWrite Thing '{}' received a GroupValueWrite telegram from '{}' for destination '{}'",
                 getThing().getUID(), source, destination);
 
-        for (KNXChannel knxChannel : knxChannels.values()) {
+        for (KNXChannel knxChannel : knxChannelsByGroupAddress.getOrDefault(destination, List.of())) {
             InboundSpec listenSpec = knxChannel.getListenSpec(destination);
             if (listenSpec != null) {
                 logger.trace(
@@ -375,7 +384,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
                  */
                 if (knxChannel.isControl()) {
                     logger.trace("onGroupWrite isControl");
-                    Type value = ValueDecoder.decode(listenSpec.getDPT(), asdu, knxChannel.preferredType());
+                    Type value = knxChannel.decode(listenSpec.getDPT(), asdu);
                     if (value != null) {
                         OutboundSpec commandSpec = knxChannel.getCommandSpec(value);
                         if (commandSpec != null) {
@@ -395,7 +404,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
             return;
         }
 
-        Type value = ValueDecoder.decode(listenSpec.getDPT(), asdu, knxChannel.preferredType());
+        Type value = knxChannel.decode(listenSpec.getDPT(), asdu);
         if (value != null) {
             if (knxChannel.isControl()) {
                 ChannelUID channelUID = knxChannel.getChannelUID();
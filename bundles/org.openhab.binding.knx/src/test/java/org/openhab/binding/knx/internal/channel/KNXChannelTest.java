@@ -227,6 +227,23 @@ class KNXChannelTest {
         assertThat(outboundSpec.getValue(), is(instanceOf(OnOffType.class)));
     }
 
+    @Test
+    void testDecodeWithReusedTranslators() throws KNXFormatException {
+        Configuration configuration = new Configuration(Map.of("switch", "1.001:1/2/1", "position", "5.001:1/2/2"));
+        Channel channel = Objects.requireNonNull(mock(Channel.class));
+        when(channel.getChannelTypeUID())
+                .thenReturn(new ChannelTypeUID(KNXBindingConstants.BINDING_ID, KNXBindingConstants.CHANNEL_DIMMER));
+        when(channel.getConfiguration()).thenReturn(configuration);
+
+        KNXChannel knxChannel = KNXChannelFactory.createKnxChannel(channel);
+
+        // the second telegram for each DPT is decoded by the same translator
+        assertThat(knxChannel.decode("1.001", new byte[] { 1 }), is(OnOffType.ON));
+        assertThat(knxChannel.decode("1.001", new byte[] { 0 }), is(OnOffType.OFF));
+        assertThat(knxChannel.decode("5.001", new byte[] { (byte) 0xFF }), is(PercentType.HUNDRED));
+        assertThat(knxChannel.decode("5.001", new byte[] { 0 }), is(PercentType.ZERO));
+    }
+
     private static class MyKNXChannel extends KNXChannel {
         public MyKNXChannel(Channel channel) {
             super(List.of("key1", "key2"), List.of(UnDefType.class), channel);
@@ -0,0 +1,433 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ModbusPollCoalescer} merges the regular polls of an endpoint into fewer transactions.
+ *
+ * Polls with the same slave id, function code and poll period are merged when the gap between their ranges is at most
+ * the configured number of registers (or coils) and the merged range does not exceed the maximum length of a read
+ * request. The response of a merged transaction is sliced back into one result per poll, so the callbacks receive the
+ * same data as if they had polled on their own. Polls that cannot be merged with any other poll are registered
+ * unchanged.
+ *
+ * The coalescer counts transactions and words read, and estimates the utilization of serial buses from the baud rate.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollCoalescer {
+    private static final long STATISTICS_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(5);
+    // start bit, 8 data bits, parity or second stop bit, stop bit
+    private static final int BITS_PER_CHARACTER = 11;
+    // slave id, function code, start address, quantity, CRC
+    private static final int RTU_REQUEST_BYTES = 8;
+    // slave id, function code, byte count, CRC
+    private static final int RTU_RESPONSE_OVERHEAD_BYTES = 5;
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollCoalescer.class);
+
+    private final String name;
+    private final ModbusCommunicationInterface comms;
+    private final int maxGap;
+    private final int baudRate;
+
+    private final Map<GroupKey, List<Registration>> registrations = new HashMap<>();
+    private final Map<GroupKey, List<PlannedPoll>> plannedPolls = new HashMap<>();
+
+    private final long created = System.nanoTime();
+    private final AtomicLong lastStatisticsLog = new AtomicLong(created);
+    private final AtomicLong transactions = new AtomicLong();
+    private final AtomicLong failedTransactions = new AtomicLong();
+    private final AtomicLong requestsServed = new AtomicLong();
+    private final AtomicLong wordsRead = new AtomicLong();
+    private final AtomicLong busBits = new AtomicLong();
+
+    private record GroupKey(int slaveId, ModbusReadFunctionCode functionCode, long pollPeriodMillis) {
+    }
+
+    /**
+     * A poll registered with the communication interface, polling its members for the first time at firstPollNanos.
+     */
+    private record PlannedPoll(List<Registration> members, PollTask task, long firstPollNanos) {
+    }
+
+    /**
+     * A poll registered with the coalescer.
+     */
+    public class Registration {
+        private final ModbusReadRequestBlueprint request;
+        private final long pollPeriodMillis;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        private Registration(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+                ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.pollPeriodMillis = pollPeriodMillis;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        /**
+         * Stops polling, the remaining polls of the group are merged again.
+         */
+        public void unregister() {
+            unregisterRegularPoll(this);
+        }
+
+        private int start() {
+            return request.getReference();
+        }
+
+        private int end() {
+            return request.getReference() + request.getDataLength();
+        }
+    }
+
+    /**
+     * @param name name of the endpoint, used for logging
+     * @param comms communication interface of the endpoint
+     * @param maxGap maximum number of unused registers or coils between merged polls
+     * @param baudRate baud rate of a serial endpoint, 0 if the bus utilization should not be estimated
+     */
+    public ModbusPollCoalescer(String name, ModbusCommunicationInterface comms, int maxGap, int baudRate) {
+        this.name = name;
+        this.comms = comms;
+        this.maxGap = maxGap;
+        this.baudRate = baudRate;
+    }
+
+    /**
+     * Registers a regular poll, possibly merged with other polls of the endpoint.
+     *
+     * @param request request to poll
+     * @param pollPeriodMillis poll interval in milliseconds
+     * @param resultCallback callback receiving the data of the request
+     * @param failureCallback callback receiving the failures of the request
+     * @return registration to unregister the poll
+     */
+    public synchronized Registration registerRegularPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        Registration registration = new Registration(request, pollPeriodMillis, resultCallback, failureCallback);
+        GroupKey key = groupKey(registration);
+        registrations.computeIfAbsent(key, k -> new ArrayList<>()).add(registration);
+        replan(key);
+        return registration;
+    }
+
+    private synchronized void unregisterRegularPoll(Registration registration) {
+        GroupKey key = groupKey(registration);
+        List<Registration> group = registrations.get(key);
+        if (group == null || !group.remove(registration)) {
+            return;
+        }
+        if (group.isEmpty()) {
+            registrations.remove(key);
+        }
+        replan(key);
+    }
+
+    /**
+     * Unregisters all polls.
+     */
+    public synchronized void close() {
+        plannedPolls.values().forEach(polls -> polls.forEach(poll -> comms.unregisterRegularPoll(poll.task)));
+        plannedPolls.clear();
+        registrations.clear();
+        logStatistics();
+    }
+
+    private GroupKey groupKey(Registration registration) {
+        return new GroupKey(registration.request.getUnitID(), registration.request.getFunctionCode(),
+                registration.pollPeriodMillis);
+    }
+
+    /**
+     * Merges the polls of a group again. Merged polls whose members did not change keep polling undisturbed, new
+     * merged polls continue the schedule of the polls they replace, so that a series of registrations does not cause a
+     * burst of polls.
+     */
+    private void replan(GroupKey key) {
+        List<PlannedPoll> previous = plannedPolls.getOrDefault(key, List.of());
+        List<Registration> group = registrations.getOrDefault(key, List.of());
+        List<PlannedPoll> planned = new ArrayList<>();
+        List<List<Registration>> added = new ArrayList<>();
+        for (List<Registration> members : merge(group, maxGap, maxLength(key.functionCode))) {
+            Optional<PlannedPoll> unchanged = previous.stream().filter(poll -> poll.members.equals(members))
+                    .findAny();
+            if (unchanged.isPresent()) {
+                planned.add(unchanged.get());
+            } else {
+                added.add(members);
+            }
+        }
+        long now = System.nanoTime();
+        for (PlannedPoll poll : previous) {
+            if (!planned.contains(poll)) {
+                comms.unregisterRegularPoll(poll.task);
+            }
+        }
+        for (List<Registration> members : added) {
+            long initialDelayMillis = initialDelayMillis(key, previous, members, now);
+            PollTask task;
+            if (members.size() == 1) {
+                Registration registration = members.get(0);
+                CountingPoll poll = new CountingPoll(registration);
+                task = comms.registerRegularPoll(registration.request, key.pollPeriodMillis, initialDelayMillis, poll,
+                        poll);
+            } else {
+                MergedPoll poll = new MergedPoll(key, members);
+                logger.debug("Merged {} polls into {} on endpoint {}", members.size(), poll.request, name);
+                task = comms.registerRegularPoll(poll.request, key.pollPeriodMillis, initialDelayMillis, poll, poll);
+            }
+            planned.add(new PlannedPoll(members, task, now + TimeUnit.MILLISECONDS.toNanos(initialDelayMillis)));
+        }
+        if (planned.isEmpty()) {
+            plannedPolls.remove(key);
+        } else {
+            plannedPolls.put(key, planned);
+        }
+    }
+
+    /**
+     * Returns the time until the next poll of the replaced polls sharing members with a new poll, or 0 if all
+     * members are new.
+     */
+    private static long initialDelayMillis(GroupKey key, List<PlannedPoll> previous, List<Registration> members,
+            long now) {
+        long periodNanos = TimeUnit.MILLISECONDS.toNanos(key.pollPeriodMillis);
+        return previous.stream().filter(poll -> poll.members.stream().anyMatch(members::contains)).mapToLong(poll -> {
+            long elapsed = now - poll.firstPollNanos;
+            long remaining = elapsed < 0 || periodNanos <= 0 ? -elapsed : periodNanos - elapsed % periodNanos;
+            return TimeUnit.NANOSECONDS.toMillis(Math.max(0, remaining));
+        }).min().orElse(0);
+    }
+
+    /**
+     * Splits polls into groups which can be read with a single request each.
+     *
+     * @param registrations polls with the same slave id, function code and poll period
+     * @param maxGap maximum number of unused registers or coils between merged polls
+     * @param maxLength maximum length of a request
+     * @return the groups of polls, sorted by start address
+     */
+    static List<List<Registration>> merge(List<Registration> registrations, int maxGap, int maxLength) {
+        List<Registration> sorted = new ArrayList<>(registrations);
+        sorted.sort(Comparator.comparingInt(Registration::start).thenComparingInt(Registration::end));
+        List<List<Registration>> groups = new ArrayList<>();
+        List<Registration> current = new ArrayList<>();
+        int start = 0;
+        int end = 0;
+        for (Registration registration : sorted) {
+            int mergedEnd = Math.max(end, registration.end());
+            if (!current.isEmpty() && registration.start() - end <= maxGap && mergedEnd - start <= maxLength) {
+                current.add(registration);
+                end = mergedEnd;
+            } else {
+                if (!current.isEmpty()) {
+                    groups.add(current);
+                }
+                current = new ArrayList<>();
+                current.add(registration);
+                start = registration.start();
+                end = registration.end();
+            }
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private static int maxLength(ModbusReadFunctionCode functionCode) {
+        switch (functionCode) {
+            case READ_COILS:
+            case READ_INPUT_DISCRETES:
+                return ModbusConstants.MAX_BITS_READ_COUNT;
+            default:
+                return ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        }
+    }
+
+    /**
+     * Callback of a poll which is not merged, only counting the transactions.
+     */
+    private class CountingPoll implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final Registration registration;
+
+        private CountingPoll(Registration registration) {
+            this.registration = registration;
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            recordTransaction(result, 1);
+            registration.resultCallback.handle(result);
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            failedTransactions.incrementAndGet();
+            registration.failureCallback.handle(failure);
+        }
+    }
+
+    /**
+     * Callback of a merged poll, slicing the response back to the polls.
+     */
+    private class MergedPoll implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final ModbusReadRequestBlueprint request;
+        private final List<Registration> members;
+
+        private MergedPoll(GroupKey key, List<Registration> members) {
+            this.members = members;
+            int start = members.stream().mapToInt(Registration::start).min().orElse(0);
+            int end = members.stream().mapToInt(Registration::end).max().orElse(start);
+            int maxTries = members.stream().mapToInt(member -> member.request.getMaxTries()).max().orElse(1);
+            this.request = new ModbusReadRequestBlueprint(key.slaveId, key.functionCode, start, end - start,
+                    maxTries);
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            recordTransaction(result, members.size());
+            Optional<ModbusRegisterArray> registers = result.getRegisters();
+            Optional<BitArray> bits = result.getBits();
+            for (Registration member : members) {
+                int offset = member.start() - request.getReference();
+                int length = member.request.getDataLength();
+                if (registers.isPresent() && registers.get().size() >= offset + length) {
+                    byte[] bytes = registers.get().getBytes();
+                    member.resultCallback.handle(new AsyncModbusReadResult(member.request,
+                            new ModbusRegisterArray(Arrays.copyOfRange(bytes, 2 * offset, 2 * (offset + length)))));
+                } else if (bits.isPresent() && bits.get().size() >= offset + length) {
+                    boolean[] slice = new boolean[length];
+                    for (int i = 0; i < length; i++) {
+                        slice[i] = bits.get().getBit(offset + i);
+                    }
+                    member.resultCallback.handle(new AsyncModbusReadResult(member.request, new BitArray(slice)));
+                } else {
+                    String message = String.format("Response of merged request %s does not cover %s", request,
+                            member.request);
+                    member.failureCallback
+                            .handle(new AsyncModbusFailure<>(member.request, new IllegalStateException(message)));
+                }
+            }
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            failedTransactions.incrementAndGet();
+            for (Registration member : members) {
+                member.failureCallback.handle(new AsyncModbusFailure<>(member.request, failure.getCause()));
+            }
+        }
+    }
+
+    private void recordTransaction(AsyncModbusReadResult result, int requests) {
+        transactions.incrementAndGet();
+        requestsServed.addAndGet(requests);
+        int payloadBytes;
+        Optional<ModbusRegisterArray> registers = result.getRegisters();
+        if (registers.isPresent()) {
+            wordsRead.addAndGet(registers.get().size());
+            payloadBytes = 2 * registers.get().size();
+        } else {
+            int bitCount = result.getBits().map(BitArray::size).orElse(0);
+            wordsRead.addAndGet((bitCount + 15) / 16);
+            payloadBytes = (bitCount + 7) / 8;
+        }
+        busBits.addAndGet(
+                (long) (RTU_REQUEST_BYTES + RTU_RESPONSE_OVERHEAD_BYTES + payloadBytes) * BITS_PER_CHARACTER);
+
+        long now = System.nanoTime();
+        long last = lastStatisticsLog.get();
+        if (now - last >= STATISTICS_LOG_INTERVAL_NANOS && lastStatisticsLog.compareAndSet(last, now)) {
+            logStatistics();
+        }
+    }
+
+    private void logStatistics() {
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Polls of endpoint {}: {} transactions ({} failed) served {} requests, {} words read, "
+                            + "estimated bus utilization {}%",
+                    name, getTransactionCount(), failedTransactions.get(), getRequestsServedCount(), getWordsRead(),
+                    baudRate > 0 ? String.format("%.1f", getBusUtilization() * 100) : "n/a");
+        }
+    }
+
+    /**
+     * Returns the number of successful transactions of regular polls.
+     */
+    public long getTransactionCount() {
+        return transactions.get();
+    }
+
+    /**
+     * Returns the number of poll results delivered by successful transactions. The difference to the number of
+     * transactions is the number of transactions saved by merging.
+     */
+    public long getRequestsServedCount() {
+        return requestsServed.get();
+    }
+
+    /**
+     * Returns the number of 16 bit words read by regular polls.
+     */
+    public long getWordsRead() {
+        return wordsRead.get();
+    }
+
+    /**
+     * Returns the estimated share of time the serial bus was busy with regular polls since the coalescer was created,
+     * assuming RTU framing. Returns 0 if the baud rate is unknown.
+     */
+    public double getBusUtilization() {
+        long elapsed = System.nanoTime() - created;
+        if (baudRate <= 0 || elapsed <= 0) {
+            return 0;
+        }
+        return busBits.get() / (double) baudRate / (elapsed / 1e9);
+    }
+}
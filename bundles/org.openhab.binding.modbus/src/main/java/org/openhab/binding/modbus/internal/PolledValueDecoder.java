@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.math.BigDecimal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * The {@link PolledValueDecoder} extracts the value of a data thing from the polled data.
+ *
+ * The position of the value inside the polled data is resolved once, when the data thing is initialized. The decoder
+ * also remembers the raw register words (or the bit) of the value, so that unchanged data can be detected without
+ * decoding and transforming it again.
+ *
+ * Instances are not thread-safe.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class PolledValueDecoder {
+    private static final DecimalType ONE = new DecimalType(BigDecimal.ONE);
+
+    private final ValueType valueType;
+    private final int extractIndex;
+    private final int firstRegister;
+    private final int[] lastWords;
+    private boolean lastWordsValid;
+
+    /**
+     * @param valueType value type of the data thing
+     * @param index index of the value relative to the start of the poll: register index for registers and bit index
+     *            for coils and discrete inputs
+     * @param subIndex index of the value inside the register, for value types smaller than 16 bits
+     */
+    public PolledValueDecoder(ValueType valueType, int index, int subIndex) {
+        this.valueType = valueType;
+        this.firstRegister = index;
+        if (valueType.getBits() >= 16) {
+            // index of the first register
+            extractIndex = index;
+            lastWords = new int[valueType.getBits() / 16];
+        } else {
+            // index of the n'th 1 bit or 8 bit item, each register containing 16 or 2 items
+            extractIndex = index * (16 / valueType.getBits()) + subIndex;
+            lastWords = new int[1];
+        }
+    }
+
+    /**
+     * Returns the index passed to {@link ModbusBitUtilities#extractStateFromRegisters}.
+     */
+    public int getExtractIndex() {
+        return extractIndex;
+    }
+
+    /**
+     * Compares the registers of the value with the previous poll, and remembers them for the next poll.
+     *
+     * @param registers polled registers
+     * @return true if the registers of the value differ from the previous poll, or if there was no previous poll
+     */
+    public boolean update(ModbusRegisterArray registers) {
+        if (firstRegister + lastWords.length > registers.size()) {
+            // let the decoding report the error
+            lastWordsValid = false;
+            return true;
+        }
+        boolean changed = !lastWordsValid;
+        for (int i = 0; i < lastWords.length; i++) {
+            int word = registers.getRegister(firstRegister + i);
+            if (lastWords[i] != word) {
+                lastWords[i] = word;
+                changed = true;
+            }
+        }
+        lastWordsValid = true;
+        return changed;
+    }
+
+    /**
+     * Compares the bit of the value with the previous poll, and remembers it for the next poll.
+     *
+     * @param bits polled bits
+     * @return true if the bit differs from the previous poll, or if there was no previous poll
+     */
+    public boolean update(BitArray bits) {
+        int word = bits.getBit(firstRegister) ? 1 : 0;
+        boolean changed = !lastWordsValid || lastWords[0] != word;
+        lastWords[0] = word;
+        lastWordsValid = true;
+        return changed;
+    }
+
+    /**
+     * Forgets the data of the previous poll, so that the next poll is considered changed.
+     */
+    public void reset() {
+        lastWordsValid = false;
+    }
+
+    /**
+     * Decodes the value from registers.
+     *
+     * @param registers polled registers
+     * @return numeric state of the value, UNDEF with floating point NaN or infinity
+     */
+    public State decode(ModbusRegisterArray registers) {
+        return ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, valueType)
+                .map(state -> (State) state).orElse(UnDefType.UNDEF);
+    }
+
+    /**
+     * Decodes the value from bits.
+     *
+     * @param bits polled bits
+     * @return numeric state of the bit
+     */
+    public DecimalType decode(BitArray bits) {
+        return bits.getBit(firstRegister) ? ONE : DecimalType.ZERO;
+    }
+}
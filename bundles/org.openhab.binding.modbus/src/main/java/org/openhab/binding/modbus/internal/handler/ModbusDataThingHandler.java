@@ -14,7 +14,6 @@ package org.openhab.binding.modbus.internal.handler;
 
 import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal.*;
 
-import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collection;
@@ -35,6 +34,7 @@ import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
 import org.openhab.binding.modbus.internal.CascadedValueTransformationImpl;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.PolledValueDecoder;
 import org.openhab.binding.modbus.internal.SingleValueTransformation;
 import org.openhab.binding.modbus.internal.ValueTransformation;
 import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
@@ -135,6 +135,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile @Nullable CascadedValueTransformationImpl writeTransformation;
     private volatile Optional<Integer> readIndex = Optional.empty();
     private volatile Optional<Integer> readSubIndex = Optional.empty();
+    private volatile @Nullable PolledValueDecoder readDecoder;
+    private volatile long lastValueUpdateMillis;
     private volatile Optional<Integer> writeStart = Optional.empty();
     private volatile Optional<Integer> writeSubIndex = Optional.empty();
     private volatile int pollStart;
@@ -469,6 +471,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         writeTransformation = null;
         readIndex = Optional.empty();
         readSubIndex = Optional.empty();
+        readDecoder = null;
+        lastValueUpdateMillis = 0L;
         writeStart = Optional.empty();
         writeSubIndex = Optional.empty();
         pollStart = 0;
@@ -495,6 +499,16 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         this.initialize();
     }
 
+    @Override
+    public synchronized void channelLinked(ChannelUID channelUID) {
+        super.channelLinked(channelUID);
+        // the new channel needs the value of the next poll, even if it is unchanged
+        PolledValueDecoder readDecoder = this.readDecoder;
+        if (readDecoder != null) {
+            readDecoder.reset();
+        }
+    }
+
     private boolean hasConfigurationError() {
         ThingStatusInfo statusInfo = getThing().getStatusInfo();
         return statusInfo.getStatus() == ThingStatus.OFFLINE
@@ -578,6 +592,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
         readTransformation = new CascadedValueTransformationImpl(config.getReadTransform());
         validateReadIndex();
+        ValueType readValueType = this.readValueType;
+        if (isReadEnabled && readValueType != null) {
+            readDecoder = new PolledValueDecoder(readValueType, readIndex.get() - pollStart, readSubIndex.orElse(0));
+        }
     }
 
     private void validateAndParseWriteParameters(ModbusDataConfiguration config) throws ModbusConfigurationException {
@@ -814,39 +832,21 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         } else if (!isReadEnabled) {
             return;
         }
-        ValueType readValueType = this.readValueType;
-        if (readValueType == null) {
+        PolledValueDecoder readDecoder = this.readDecoder;
+        if (readDecoder == null) {
             return;
         }
-        State numericState;
-
-        // extractIndex:
-        // e.g. with bit, extractIndex=4 means 5th bit (from right) ("10.4" -> 5th bit of register 10, "10.4" -> 5th bit
-        // of register 10)
-        // bit of second register)
-        // e.g. with 8bit integer, extractIndex=3 means high byte of second register
-        //
-        // with <16 bit types, this is the index of the N'th 1-bit/8-bit item. Each register has 16/2 items,
-        // respectively.
-        // with >=16 bit types, this is index of first register
-        int extractIndex;
-        if (readValueType.getBits() >= 16) {
-            // Invariant, checked in initialize
-            assert readSubIndex.orElse(0) == 0;
-            extractIndex = readIndex.get() - pollStart;
-        } else {
-            int subIndex = readSubIndex.orElse(0);
-            int itemsPerRegister = 16 / readValueType.getBits();
-            extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
+        if (!readDecoder.update(registers) && isUnchangedValueUpToDate()) {
+            processUnchangedValue();
+            return;
         }
-        numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
-                .map(state -> (State) state).orElse(UnDefType.UNDEF);
+        State numericState = readDecoder.decode(registers);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={}, extractIndex={} -> numeric value {} and boolValue={}. Registers {} for request {}",
-                thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), extractIndex, numericState,
-                boolValue, registers, request);
+                thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0),
+                readDecoder.getExtractIndex(), numericState, boolValue, registers, request);
     }
 
     private synchronized void onBits(ModbusReadRequestBlueprint request, BitArray bits) {
@@ -855,14 +855,44 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         } else if (!isReadEnabled) {
             return;
         }
-        boolean boolValue = bits.getBit(readIndex.get() - pollStart);
-        DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
+        PolledValueDecoder readDecoder = this.readDecoder;
+        if (readDecoder == null) {
+            return;
+        }
+        if (!readDecoder.update(bits) && isUnchangedValueUpToDate()) {
+            processUnchangedValue();
+            return;
+        }
+        DecimalType numericState = readDecoder.decode(bits);
+        boolean boolValue = !numericState.equals(DecimalType.ZERO);
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={} -> numeric value {} and boolValue={}. Bits {} for request {}",
                 thing.getUID(), values, readValueType, readIndex, numericState, boolValue, bits, request);
     }
 
+    /**
+     * Check if the channels still hold the value of the previous poll, and do not need to be updated with unchanged
+     * data yet.
+     */
+    private boolean isUnchangedValueUpToDate() {
+        return lastValueUpdateMillis > 0L && updateUnchangedValuesEveryMillis > 0L
+                && System.currentTimeMillis() - lastValueUpdateMillis <= updateUnchangedValuesEveryMillis;
+    }
+
+    /**
+     * Update status and read success channel with a poll which did not change the value. The value channels are not
+     * updated, saving the transformation of the value.
+     */
+    private void processUnchangedValue() {
+        updateStatusIfChanged(ThingStatus.ONLINE);
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        if (isLinked(lastReadSuccessUID)) {
+            tryUpdateState(lastReadSuccessUID, new DateTimeType());
+        }
+        logger.trace("Thing {} polled data unchanged, skipping update of value channels", thing.getUID());
+    }
+
     private synchronized void onError(ModbusReadRequestBlueprint request, Exception error) {
         if (hasConfigurationError()) {
             return;
@@ -1032,6 +1062,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             // Update channels that have not been updated in a while, or when their values has changed
             states.forEach((uid, state) -> updateExpiredChannel(now, uid, state));
             channelLastState = states;
+            lastValueUpdateMillis = now;
         }
     }
 
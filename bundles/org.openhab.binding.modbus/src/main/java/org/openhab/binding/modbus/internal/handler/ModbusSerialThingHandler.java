@@ -69,6 +69,7 @@ public class ModbusSerialThingHandler
         // Never reconnect serial connections "automatically"
         poolConfiguration.setInterConnectDelayMillis(1000);
         poolConfiguration.setReconnectAfterMillis(-1);
+        pollCoalescingMaxGap = config.getPollCoalescingMaxGap();
 
         endpoint = new ModbusSerialSlaveEndpoint(port, baud, flowControlIn, flowControlOut, config.getDataBits(),
                 stopBits, parity, encoding, config.isEcho(), config.getReceiveTimeoutMillis());
@@ -86,6 +87,12 @@ public class ModbusSerialThingHandler
         }
     }
 
+    @Override
+    protected int getBaudRate() {
+        ModbusSerialConfiguration config = this.config;
+        return config == null ? 0 : config.getBaud();
+    }
+
     @SuppressWarnings("null") // Since endpoint in Optional.map cannot be null
     @Override
     protected String formatConflictingParameterError() {
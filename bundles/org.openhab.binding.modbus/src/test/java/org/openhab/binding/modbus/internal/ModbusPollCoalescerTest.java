@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollCoalescerTest {
+
+    private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private @NonNullByDefault({}) ArgumentCaptor<ModbusReadRequestBlueprint> requestCaptor;
+    private @NonNullByDefault({}) ArgumentCaptor<ModbusReadCallback> resultCaptor;
+    private @NonNullByDefault({}) ArgumentCaptor<ModbusFailureCallback<ModbusReadRequestBlueprint>> failureCaptor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        comms = mock(ModbusCommunicationInterface.class);
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any()))
+                .thenAnswer(invocation -> mock(PollTask.class));
+        requestCaptor = ArgumentCaptor.forClass(ModbusReadRequestBlueprint.class);
+        resultCaptor = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        failureCaptor = ArgumentCaptor.forClass(ModbusFailureCallback.class);
+    }
+
+    private static ModbusReadRequestBlueprint request(ModbusReadFunctionCode functionCode, int start, int length) {
+        return new ModbusReadRequestBlueprint(1, functionCode, start, length, 3);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback() {
+        return mock(ModbusFailureCallback.class);
+    }
+
+    private List<ModbusReadRequestBlueprint> registeredRequests() {
+        verify(comms, atLeastOnce()).registerRegularPoll(requestCaptor.capture(), eq(1000L), anyLong(),
+                resultCaptor.capture(), failureCaptor.capture());
+        return requestCaptor.getAllValues();
+    }
+
+    @Test
+    public void testMergedRegistersAreSliced() {
+        ModbusPollCoalescer coalescer = new ModbusPollCoalescer("test", comms, 10, 0);
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        ModbusReadRequestBlueprint second = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 5, 3);
+        ModbusReadCallback firstCallback = mock(ModbusReadCallback.class);
+        ModbusReadCallback secondCallback = mock(ModbusReadCallback.class);
+        coalescer.registerRegularPoll(first, 1000, firstCallback, failureCallback());
+        coalescer.registerRegularPoll(second, 1000, secondCallback, failureCallback());
+
+        List<ModbusReadRequestBlueprint> requests = registeredRequests();
+        ModbusReadRequestBlueprint merged = requests.get(requests.size() - 1);
+        assertEquals(0, merged.getReference());
+        assertEquals(8, merged.getDataLength());
+        assertEquals(3, merged.getMaxTries());
+
+        resultCaptor.getValue()
+                .handle(new AsyncModbusReadResult(merged, new ModbusRegisterArray(0, 1, 2, 3, 4, 5, 6, 7)));
+
+        ArgumentCaptor<AsyncModbusReadResult> firstResult = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(firstCallback).handle(firstResult.capture());
+        assertSame(first, firstResult.getValue().getRequest());
+        assertArrayEquals(new ModbusRegisterArray(0, 1).getBytes(),
+                firstResult.getValue().getRegisters().get().getBytes());
+
+        ArgumentCaptor<AsyncModbusReadResult> secondResult = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(secondCallback).handle(secondResult.capture());
+        assertSame(second, secondResult.getValue().getRequest());
+        assertArrayEquals(new ModbusRegisterArray(5, 6, 7).getBytes(),
+                secondResult.getValue().getRegisters().get().getBytes());
+
+        assertEquals(1, coalescer.getTransactionCount());
+        assertEquals(2, coalescer.getRequestsServedCount());
+        assertEquals(8, coalescer.getWordsRead());
+    }
+
+    @Test
+    public void testMergedBitsAreSliced() {
+        ModbusPollCoalescer coalescer = new ModbusPollCoalescer("test", comms, 0, 9600);
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_COILS, 0, 2);
+        ModbusReadRequestBlueprint second = request(ModbusReadFunctionCode.READ_COILS, 2, 2);
+        ModbusReadCallback secondCallback = mock(ModbusReadCallback.class);
+        coalescer.registerRegularPoll(first, 1000, mock(ModbusReadCallback.class), failureCallback());
+        coalescer.registerRegularPoll(second, 1000, secondCallback, failureCallback());
+
+        List<ModbusReadRequestBlueprint> requests = registeredRequests();
+        ModbusReadRequestBlueprint merged = requests.get(requests.size() - 1);
+        resultCaptor.getValue().handle(new AsyncModbusReadResult(merged, new BitArray(true, false, false, true)));
+
+        ArgumentCaptor<AsyncModbusReadResult> secondResult = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(secondCallback).handle(secondResult.capture());
+        BitArray bits = secondResult.getValue().getBits().get();
+        assertEquals(2, bits.size());
+        assertFalse(bits.getBit(0));
+        assertTrue(bits.getBit(1));
+        assertTrue(coalescer.getBusUtilization() > 0);
+    }
+
+    @Test
+    public void testPollsAreNotMergedAcrossLargeGapsOrFunctionCodes() {
+        ModbusPollCoalescer coalescer = new ModbusPollCoalescer("test", comms, 2, 0);
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        ModbusReadRequestBlueprint far = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 5, 2);
+        ModbusReadRequestBlueprint input = request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 2, 2);
+        coalescer.registerRegularPoll(first, 1000, mock(ModbusReadCallback.class), failureCallback());
+        coalescer.registerRegularPoll(far, 1000, mock(ModbusReadCallback.class), failureCallback());
+        coalescer.registerRegularPoll(input, 1000, mock(ModbusReadCallback.class), failureCallback());
+
+        List<ModbusReadRequestBlueprint> requests = registeredRequests();
+        assertTrue(requests.contains(first));
+        assertTrue(requests.contains(far));
+        assertTrue(requests.contains(input));
+        assertTrue(requests.stream().allMatch(request -> request.getDataLength() == 2));
+    }
+
+    @Test
+    public void testMergedLengthIsLimited() {
+        ModbusPollCoalescer coalescer = new ModbusPollCoalescer("test", comms, 10, 0);
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 100);
+        ModbusReadRequestBlueprint second = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 100, 100);
+        coalescer.registerRegularPoll(first, 1000, mock(ModbusReadCallback.class), failureCallback());
+        coalescer.registerRegularPoll(second, 1000, mock(ModbusReadCallback.class), failureCallback());
+
+        List<ModbusReadRequestBlueprint> requests = registeredRequests();
+        assertTrue(requests.contains(second));
+        assertTrue(requests.stream().allMatch(request -> request.getDataLength() == 100));
+    }
+
+    @Test
+    public void testUnregisterSplitsMergedPoll() {
+        ModbusPollCoalescer coalescer = new ModbusPollCoalescer("test", comms, 10, 0);
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        ModbusReadRequestBlueprint second = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 5, 3);
+        ModbusPollCoalescer.Registration registration = coalescer.registerRegularPoll(first, 1000,
+                mock(ModbusReadCallback.class), failureCallback());
+        coalescer.registerRegularPoll(second, 1000, mock(ModbusReadCallback.class), failureCallback());
+
+        registration.unregister();
+
+        List<ModbusReadRequestBlueprint> requests = registeredRequests();
+        assertSame(second, requests.get(requests.size() - 1));
+        verify(comms, times(2)).unregisterRegularPoll(any());
+
+        coalescer.close();
+        verify(comms, times(3)).unregisterRegularPoll(any());
+    }
+
+    @Test
+    public void testReplanKeepsUnchangedPollsAndSchedule() {
+        ModbusPollCoalescer coalescer = new ModbusPollCoalescer("test", comms, 2, 0);
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        ModbusReadRequestBlueprint far = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 50, 2);
+        ModbusReadRequestBlueprint second = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 3, 2);
+        coalescer.registerRegularPoll(first, 1000, mock(ModbusReadCallback.class), failureCallback());
+        coalescer.registerRegularPoll(far, 1000, mock(ModbusReadCallback.class), failureCallback());
+        coalescer.registerRegularPoll(second, 1000, mock(ModbusReadCallback.class), failureCallback());
+
+        // the poll of far is not touched, only the poll of first is replaced by the merged poll
+        ArgumentCaptor<Long> delayCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(comms, times(3)).registerRegularPoll(requestCaptor.capture(), eq(1000L), delayCaptor.capture(),
+                any(), any());
+        verify(comms, times(1)).unregisterRegularPoll(any());
+        assertEquals(List.of(first, far), requestCaptor.getAllValues().subList(0, 2));
+        assertEquals(List.of(0L, 0L), delayCaptor.getAllValues().subList(0, 2));
+        ModbusReadRequestBlueprint merged = requestCaptor.getAllValues().get(2);
+        assertEquals(0, merged.getReference());
+        assertEquals(5, merged.getDataLength());
+        // the merged poll continues the schedule of first instead of polling immediately
+        long delay = delayCaptor.getAllValues().get(2);
+        assertTrue(delay > 0 && delay <= 1000, "delay " + delay);
+    }
+
+    @Test
+    public void testFailureIsReportedToAllMergedPolls() {
+        ModbusPollCoalescer coalescer = new ModbusPollCoalescer("test", comms, 10, 0);
+        ModbusReadRequestBlueprint first = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        ModbusReadRequestBlueprint second = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 5, 3);
+        ModbusFailureCallback<ModbusReadRequestBlueprint> firstFailure = failureCallback();
+        ModbusFailureCallback<ModbusReadRequestBlueprint> secondFailure = failureCallback();
+        coalescer.registerRegularPoll(first, 1000, mock(ModbusReadCallback.class), firstFailure);
+        coalescer.registerRegularPoll(second, 1000, mock(ModbusReadCallback.class), secondFailure);
+
+        List<ModbusReadRequestBlueprint> requests = registeredRequests();
+        Exception cause = new Exception("timeout");
+        failureCaptor.getValue().handle(new AsyncModbusFailure<>(requests.get(requests.size() - 1), cause));
+
+        verify(firstFailure)
+                .handle(argThat(failure -> failure.getRequest() == first && failure.getCause() == cause));
+        verify(secondFailure)
+                .handle(argThat(failure -> failure.getRequest() == second && failure.getCause() == cause));
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class PolledValueDecoderTest {
+
+    @Test
+    public void testDecodeRegisters() {
+        PolledValueDecoder decoder = new PolledValueDecoder(ValueType.INT32, 1, 0);
+        assertEquals(1, decoder.getExtractIndex());
+        assertEquals(new DecimalType(65538), decoder.decode(new ModbusRegisterArray(7, 1, 2)));
+    }
+
+    @Test
+    public void testDecodeSubIndex() {
+        PolledValueDecoder decoder = new PolledValueDecoder(ValueType.INT8, 1, 1);
+        assertEquals(3, decoder.getExtractIndex());
+        ModbusRegisterArray registers = new ModbusRegisterArray(0, 0x1234);
+        assertEquals(ModbusBitUtilities.extractStateFromRegisters(registers, 3, ValueType.INT8).get(),
+                decoder.decode(registers));
+
+        decoder = new PolledValueDecoder(ValueType.BIT, 1, 2);
+        assertEquals(18, decoder.getExtractIndex());
+        assertEquals(new DecimalType(1), decoder.decode(new ModbusRegisterArray(0, 0b100)));
+    }
+
+    @Test
+    public void testDecodeNaN() {
+        PolledValueDecoder decoder = new PolledValueDecoder(ValueType.FLOAT32, 0, 0);
+        assertEquals(UnDefType.UNDEF, decoder.decode(new ModbusRegisterArray(0x7fc0, 0)));
+    }
+
+    @Test
+    public void testRegistersChanged() {
+        PolledValueDecoder decoder = new PolledValueDecoder(ValueType.INT32, 1, 0);
+        assertTrue(decoder.update(new ModbusRegisterArray(0, 1, 2)));
+        // other registers of the poll do not matter
+        assertFalse(decoder.update(new ModbusRegisterArray(5, 1, 2)));
+        assertTrue(decoder.update(new ModbusRegisterArray(5, 1, 3)));
+        assertFalse(decoder.update(new ModbusRegisterArray(5, 1, 3)));
+
+        decoder.reset();
+        assertTrue(decoder.update(new ModbusRegisterArray(5, 1, 3)));
+    }
+
+    @Test
+    public void testRegistersTooShort() {
+        PolledValueDecoder decoder = new PolledValueDecoder(ValueType.INT32, 1, 0);
+        assertTrue(decoder.update(new ModbusRegisterArray(0, 1)));
+        assertTrue(decoder.update(new ModbusRegisterArray(0, 1)));
+    }
+
+    @Test
+    public void testBitsChanged() {
+        PolledValueDecoder decoder = new PolledValueDecoder(ValueType.BIT, 2, 0);
+        assertTrue(decoder.update(new BitArray(false, false, true)));
+        assertFalse(decoder.update(new BitArray(true, true, true)));
+        assertTrue(decoder.update(new BitArray(true, true, false)));
+        assertEquals(DecimalType.ZERO, decoder.decode(new BitArray(true, true, false)));
+        assertEquals(new DecimalType(1), decoder.decode(new BitArray(false, false, true)));
+    }
+}
@@ -84,6 +84,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
     private AtomicBoolean messageReceived = new AtomicBoolean(false);
     private Map<String, @Nullable ChannelState> availabilityStates = new ConcurrentHashMap<>();
     private AvailabilityMode availabilityMode = AvailabilityMode.ALL;
+    private final TopicDispatcher topicDispatcher = new TopicDispatcher();
 
     public AbstractMQTTThingHandler(Thing thing, int subscribeTimeout) {
         super(thing);
@@ -120,6 +121,8 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
     protected void stop() {
         clearAllAvailabilityTopics();
         resetMessageReceived();
+        logger.debug("Message statistics of {}: {}", thing.getUID(), topicDispatcher);
+        topicDispatcher.clear();
     }
 
     @Override
@@ -280,6 +283,11 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
         postCommand(channelUID, command);
     }
 
+    @Override
+    public TopicDispatcher getTopicDispatcher() {
+        return topicDispatcher;
+    }
+
     public @Nullable MqttBrokerConnection getConnection() {
         return connection;
     }
@@ -327,6 +335,11 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
                         @Override
                         public void postChannelCommand(ChannelUID channelUID, Command value) {
                         }
+
+                        @Override
+                        public TopicDispatcher getTopicDispatcher() {
+                            return topicDispatcher;
+                        }
                     });
             if (transformation_pattern != null && transformationServiceProvider != null) {
                 state.addTransformation(transformation_pattern, transformationServiceProvider);
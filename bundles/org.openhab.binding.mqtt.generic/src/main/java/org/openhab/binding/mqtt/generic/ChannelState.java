@@ -164,6 +164,18 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        final TopicDispatcher dispatcher = channelStateUpdateListener.getTopicDispatcher();
+        if (dispatcher == null) {
+            processMessage(channelStateUpdateListener, null, topic, payload);
+            return;
+        }
+        long start = System.nanoTime();
+        processMessage(channelStateUpdateListener, dispatcher, topic, payload);
+        dispatcher.recordProcessingTime(channelUID, System.nanoTime() - start);
+    }
+
+    private void processMessage(ChannelStateUpdateListener channelStateUpdateListener,
+            @Nullable TopicDispatcher dispatcher, String topic, byte[] payload) {
         if (cachedValue.isBinary()) {
             cachedValue.update(payload);
             channelStateUpdateListener.updateChannelState(channelUID, cachedValue.getChannelState());
@@ -172,7 +184,8 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
+        String strValue = dispatcher != null ? dispatcher.decode(topic, payload)
+                : new String(payload, StandardCharsets.UTF_8);
         for (ChannelStateTransformation t : transformationsIn) {
             String transformedValue = t.processValue(strValue);
             if (transformedValue != null) {
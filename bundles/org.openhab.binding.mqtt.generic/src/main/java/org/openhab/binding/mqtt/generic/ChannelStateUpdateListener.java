@@ -13,6 +13,7 @@
 package org.openhab.binding.mqtt.generic;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
@@ -47,4 +48,14 @@ public interface ChannelStateUpdateListener {
      * @param eventPayload The new value. Doesn't necessarily need to be different than the value before.
      */
     void triggerChannel(ChannelUID channelUID, String eventPayload);
+
+    /**
+     * Returns the dispatcher shared by the channels of a thing, which decodes each received message only once and
+     * collects statistics about the received messages.
+     *
+     * @return The dispatcher or null if every channel should decode messages on its own.
+     */
+    default @Nullable TopicDispatcher getTopicDispatcher() {
+        return null;
+    }
 }
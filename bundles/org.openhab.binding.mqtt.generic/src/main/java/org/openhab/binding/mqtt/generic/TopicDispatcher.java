@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ChannelUID;
+
+/**
+ * The {@link TopicDispatcher} is the stage between the broker connection and the {@link ChannelState}s of a thing.
+ *
+ * The connection hands the same payload array to every subscriber of a topic. The payload is therefore decoded only
+ * once per message and topic, and all channels of the thing work on the same string. Transformation services like
+ * JSONPATH cache the parsed document of a source string, so the selectors of all channels on a topic are evaluated
+ * against a single parsed document.
+ *
+ * The dispatcher also collects the number and rate of messages per topic and the processing time per channel.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class TopicDispatcher {
+    private static final int MAX_TOPICS = 1024;
+
+    private record DecodedPayload(byte[] payload, String value) {
+    }
+
+    private static class TopicStatistics {
+        private final long firstMessage = System.nanoTime();
+        private final LongAdder messages = new LongAdder();
+        private volatile @Nullable DecodedPayload lastPayload;
+    }
+
+    /**
+     * Processing times of a channel.
+     *
+     * @param count the number of processed messages
+     * @param totalNanos the total processing time in nanoseconds
+     * @param maxNanos the maximum processing time in nanoseconds
+     */
+    public record ProcessingTime(long count, long totalNanos, long maxNanos) {
+        public long averageNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+    }
+
+    private static class ChannelStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    private final Map<String, TopicStatistics> topics = new ConcurrentHashMap<>();
+    private final Map<ChannelUID, ChannelStatistics> channels = new ConcurrentHashMap<>();
+
+    /**
+     * Decodes the payload of a message as UTF-8 string, reusing the result for all subscribers of the message.
+     *
+     * @param topic the topic the message was received on
+     * @param payload the payload of the message
+     * @return the decoded payload
+     */
+    public String decode(String topic, byte[] payload) {
+        if (topics.size() >= MAX_TOPICS && !topics.containsKey(topic)) {
+            // wildcard subscriptions might deliver an unbounded number of topics
+            topics.clear();
+        }
+        TopicStatistics statistics = topics.computeIfAbsent(topic, t -> new TopicStatistics());
+        DecodedPayload decoded = statistics.lastPayload;
+        if (decoded != null && decoded.payload() == payload) {
+            return decoded.value();
+        }
+        String value = new String(payload, StandardCharsets.UTF_8);
+        statistics.lastPayload = new DecodedPayload(payload, value);
+        statistics.messages.increment();
+        return value;
+    }
+
+    /**
+     * Records the time a channel needed to process a message.
+     *
+     * @param channelUID the channel
+     * @param nanos the processing time in nanoseconds
+     */
+    public void recordProcessingTime(ChannelUID channelUID, long nanos) {
+        ChannelStatistics statistics = channels.computeIfAbsent(channelUID, c -> new ChannelStatistics());
+        statistics.count.increment();
+        statistics.totalNanos.add(nanos);
+        statistics.maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Returns the number of messages received on a topic.
+     */
+    public long getMessageCount(String topic) {
+        TopicStatistics statistics = topics.get(topic);
+        return statistics == null ? 0 : statistics.messages.sum();
+    }
+
+    /**
+     * Returns the average number of messages per second received on a topic since the first message.
+     */
+    public double getMessageRate(String topic) {
+        TopicStatistics statistics = topics.get(topic);
+        if (statistics == null) {
+            return 0;
+        }
+        long elapsed = System.nanoTime() - statistics.firstMessage;
+        return elapsed <= 0 ? 0 : statistics.messages.sum() * 1e9 / elapsed;
+    }
+
+    /**
+     * Returns the processing times of a channel.
+     */
+    public ProcessingTime getProcessingTime(ChannelUID channelUID) {
+        ChannelStatistics statistics = channels.get(channelUID);
+        if (statistics == null) {
+            return new ProcessingTime(0, 0, 0);
+        }
+        return new ProcessingTime(statistics.count.sum(), statistics.totalNanos.sum(), statistics.maxNanos.get());
+    }
+
+    /**
+     * Resets all statistics and drops the decoded payloads.
+     */
+    public void clear() {
+        topics.clear();
+        channels.clear();
+    }
+
+    @Override
+    public String toString() {
+        String topicSummary = topics.keySet().stream()
+                .map(topic -> String.format("%s: %d messages (%.2f/s)", topic, getMessageCount(topic),
+                        getMessageRate(topic)))
+                .collect(Collectors.joining(", "));
+        String channelSummary = channels.keySet().stream().map(channelUID -> {
+            ProcessingTime time = getProcessingTime(channelUID);
+            return String.format("%s: %d messages (avg %d us, max %d us)", channelUID.getAsString(), time.count(),
+                    time.averageNanos() / 1000, time.maxNanos() / 1000);
+        }).collect(Collectors.joining(", "));
+        return "topics [" + topicSummary + "], channels [" + channelSummary + "]";
+    }
+}
@@ -159,6 +159,26 @@ public class ChannelStateTests {
         verify(channelStateUpdateListenerMock).updateChannelState(eq(channelUIDMock), any());
     }
 
+    @Test
+    public void receiveWithTopicDispatcherTest() throws Exception {
+        TopicDispatcher dispatcher = new TopicDispatcher();
+        when(channelStateUpdateListenerMock.getTopicDispatcher()).thenReturn(dispatcher);
+        TextValue otherValue = new TextValue();
+        ChannelUID otherChannelUID = new ChannelUID("a:b:c:d");
+        ChannelState c = new ChannelState(config, channelUIDMock, textValue, channelStateUpdateListenerMock);
+        ChannelState other = new ChannelState(config, otherChannelUID, otherValue, channelStateUpdateListenerMock);
+
+        byte[] payload = "A TEST".getBytes();
+        c.processMessage("state", payload);
+        other.processMessage("state", payload);
+
+        assertThat(textValue.getChannelState().toString(), is("A TEST"));
+        assertThat(otherValue.getChannelState().toString(), is("A TEST"));
+        assertThat(dispatcher.getMessageCount("state"), is(1L));
+        assertThat(dispatcher.getProcessingTime(channelUIDMock).count(), is(1L));
+        assertThat(dispatcher.getProcessingTime(otherChannelUID).count(), is(1L));
+    }
+
     @Test
     public void receiveDecimalTest() {
         NumberValue value = new NumberValue(null, null, new BigDecimal(10), null);
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.thing.ChannelUID;
+
+/**
+ * Tests the {@link TopicDispatcher} class.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class TopicDispatcherTests {
+
+    @Test
+    public void decodesEachMessageOnce() {
+        TopicDispatcher dispatcher = new TopicDispatcher();
+        byte[] payload = "{\"temperature\":21.5}".getBytes(StandardCharsets.UTF_8);
+
+        String first = dispatcher.decode("sensor/state", payload);
+        String second = dispatcher.decode("sensor/state", payload);
+
+        assertThat(first, is("{\"temperature\":21.5}"));
+        assertThat(second, is(sameInstance(first)));
+        assertThat(dispatcher.getMessageCount("sensor/state"), is(1L));
+    }
+
+    @Test
+    public void decodesNewMessages() {
+        TopicDispatcher dispatcher = new TopicDispatcher();
+
+        String first = dispatcher.decode("sensor/state", "ON".getBytes(StandardCharsets.UTF_8));
+        String second = dispatcher.decode("sensor/state", "OFF".getBytes(StandardCharsets.UTF_8));
+        dispatcher.decode("sensor/other", "ON".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(first, is("ON"));
+        assertThat(second, is("OFF"));
+        assertThat(dispatcher.getMessageCount("sensor/state"), is(2L));
+        assertThat(dispatcher.getMessageCount("sensor/other"), is(1L));
+        assertThat(dispatcher.getMessageCount("sensor/unknown"), is(0L));
+    }
+
+    @Test
+    public void recordsProcessingTimes() {
+        TopicDispatcher dispatcher = new TopicDispatcher();
+        ChannelUID channelUID = new ChannelUID("mqtt:topic:broker:thing:channel");
+
+        dispatcher.recordProcessingTime(channelUID, 1000);
+        dispatcher.recordProcessingTime(channelUID, 3000);
+
+        TopicDispatcher.ProcessingTime time = dispatcher.getProcessingTime(channelUID);
+        assertThat(time.count(), is(2L));
+        assertThat(time.totalNanos(), is(4000L));
+        assertThat(time.maxNanos(), is(3000L));
+        assertThat(time.averageNanos(), is(2000L));
+
+        dispatcher.clear();
+        assertThat(dispatcher.getProcessingTime(channelUID).count(), is(0L));
+    }
+}
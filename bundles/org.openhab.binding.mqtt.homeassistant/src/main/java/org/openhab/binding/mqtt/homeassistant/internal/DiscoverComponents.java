@@ -68,6 +68,18 @@ public class DiscoverComponents implements MqttMessageSubscriber {
      */
     public static interface ComponentDiscovered {
         void componentDiscovered(HaID homeAssistantTopicID, AbstractComponent<?> component);
+
+        /**
+         * Checks if a component with the given configuration is already known, so that it does not need to be
+         * created again.
+         *
+         * @param homeAssistantTopicID The component
+         * @param configHash The hash code of the configuration JSON
+         * @return true if the component is known with the same configuration
+         */
+        default boolean isComponentKnown(HaID homeAssistantTopicID, int configHash) {
+            return false;
+        }
     }
 
     /**
@@ -99,6 +111,11 @@ public class DiscoverComponents implements MqttMessageSubscriber {
         AbstractComponent<?> component = null;
 
         if (config.length() > 0) {
+            final ComponentDiscovered discoveredListener = this.discoveredListener;
+            if (discoveredListener != null && discoveredListener.isComponentKnown(haID, config.hashCode())) {
+                logger.trace("HomeAssistant component {} is unchanged", haID);
+                return;
+            }
             try {
                 component = ComponentFactory.createComponent(thingUID, haID, config, updateListener, tracker, scheduler,
                         gson, transformationServiceProvider);
@@ -18,6 +18,7 @@ import java.util.List;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.generic.ChannelStateUpdateListener;
+import org.openhab.binding.mqtt.generic.TopicDispatcher;
 import org.openhab.binding.mqtt.generic.mapping.ColorMode;
 import org.openhab.binding.mqtt.generic.values.ColorValue;
 import org.openhab.binding.mqtt.generic.values.NumberValue;
@@ -304,4 +305,9 @@ public abstract class Light extends AbstractComponent<Light.ChannelConfiguration
     public void triggerChannel(ChannelUID channelUID, String eventPayload) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public @Nullable TopicDispatcher getTopicDispatcher() {
+        return channelStateUpdateListener.getTopicDispatcher();
+    }
 }
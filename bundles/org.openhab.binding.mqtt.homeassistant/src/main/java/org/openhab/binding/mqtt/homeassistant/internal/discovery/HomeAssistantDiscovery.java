@@ -67,6 +67,11 @@ import com.google.gson.GsonBuilder;
  * The {@link HomeAssistantDiscovery} is responsible for discovering device nodes that follow the
  * Home Assistant MQTT discovery convention (https://www.home-assistant.io/docs/mqtt/discovery/).
  *
+ * Configurations are parsed in parallel on the discovery scheduler, and the parsed configuration of each topic is
+ * kept, so that an unchanged configuration (e.g. a retained message received again after a reconnect) is not parsed
+ * again. Results are published after no configuration has been received for two seconds, or earlier in batches if
+ * many things are discovered at once.
+ *
  * @author David Graeff - Initial contribution
  */
 @Component(service = DiscoveryService.class, configurationPid = "discovery.mqttha", property = Constants.SERVICE_PID
@@ -80,6 +85,15 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     protected final Map<String, ThingUID> thingIDPerTopic = new TreeMap<>();
     protected final Map<String, DiscoveryResult> results = new ConcurrentHashMap<>();
 
+    private record ParsedConfiguration(int hash, AbstractChannelConfiguration config) {
+    }
+
+    private static final int PUBLISH_DELAY_SECONDS = 2;
+    private static final int PUBLISH_BATCH_SIZE = 100;
+
+    private final Map<String, ParsedConfiguration> configPerTopic = new ConcurrentHashMap<>();
+    private final Map<String, Integer> latestHashPerTopic = new ConcurrentHashMap<>();
+
     private @Nullable ScheduledFuture<?> future;
     private final Gson gson;
 
@@ -188,71 +202,102 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             return;
         }
 
-        // Reset the found-component timer.
-        // We will collect components for the thing label description for another 2 seconds.
-        final ScheduledFuture<?> future = this.future;
-        if (future != null) {
-            future.cancel(false);
-        }
-        this.future = scheduler.schedule(this::publishResults, 2, TimeUnit.SECONDS);
+        String json = new String(payload, StandardCharsets.UTF_8);
+        int hash = json.hashCode();
+        latestHashPerTopic.put(topic, hash);
+        scheduler.execute(() -> processConfiguration(connectionBridge, topic, json, hash));
+    }
 
+    private void processConfiguration(ThingUID connectionBridge, String topic, String json, int hash) {
         // We will of course find multiple of the same unique Thing IDs, for each different component another one.
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
         // easily recognize object capabilities.
         HaID haID = new HaID(topic);
 
         try {
-            AbstractChannelConfiguration config = AbstractChannelConfiguration
-                    .fromString(new String(payload, StandardCharsets.UTF_8), gson);
+            ParsedConfiguration parsed = configPerTopic.get(topic);
+            if (parsed == null || parsed.hash() != hash) {
+                parsed = new ParsedConfiguration(hash, AbstractChannelConfiguration.fromString(json, gson));
+            }
+
+            @Nullable
+            List<DiscoveryResult> batch = null;
+            synchronized (componentsPerThingID) {
+                // a newer message or a removal of the topic has been received in the meantime
+                if (!Integer.valueOf(hash).equals(latestHashPerTopic.get(topic))) {
+                    return;
+                }
+                configPerTopic.put(topic, parsed);
+                addComponent(connectionBridge, topic, haID, parsed.config());
+
+                // Reset the found-component timer.
+                // We will collect components for the thing label description for another 2 seconds.
+                final ScheduledFuture<?> future = this.future;
+                if (future != null) {
+                    future.cancel(false);
+                }
+                this.future = scheduler.schedule(this::publishResults, PUBLISH_DELAY_SECONDS, TimeUnit.SECONDS);
+
+                if (results.size() >= PUBLISH_BATCH_SIZE) {
+                    batch = new ArrayList<>(results.values());
+                    results.clear();
+                }
+            }
+            if (batch != null) {
+                publishResults(batch);
+            }
+        } catch (ConfigurationException e) {
+            logger.warn("HomeAssistant discover error: invalid configuration of thing {} component {}: {}",
+                    haID.objectID, haID.component, e.getMessage());
+        } catch (Exception e) {
+            logger.warn("HomeAssistant discover error: {}", e.getMessage());
+        }
+    }
 
-            final String thingID = config.getThingId(haID.objectID);
+    private void addComponent(ThingUID connectionBridge, String topic, HaID haID,
+            AbstractChannelConfiguration config) {
+        final String thingID = config.getThingId(haID.objectID);
 
-            final ThingTypeUID typeID = new ThingTypeUID(MqttBindingConstants.BINDING_ID,
-                    MqttBindingConstants.HOMEASSISTANT_MQTT_THING.getId() + "_" + thingID);
+        final ThingTypeUID typeID = new ThingTypeUID(MqttBindingConstants.BINDING_ID,
+                MqttBindingConstants.HOMEASSISTANT_MQTT_THING.getId() + "_" + thingID);
 
-            final ThingUID thingUID = new ThingUID(typeID, connectionBridge, thingID);
+        final ThingUID thingUID = new ThingUID(typeID, connectionBridge, thingID);
 
-            thingIDPerTopic.put(topic, thingUID);
+        thingIDPerTopic.put(topic, thingUID);
 
-            // We need to keep track of already found component topics for a specific thing
-            final List<HaID> components;
-            {
-                Set<HaID> componentsUnordered = componentsPerThingID.computeIfAbsent(thingID,
-                        key -> ConcurrentHashMap.newKeySet());
+        // We need to keep track of already found component topics for a specific thing
+        final List<HaID> components;
+        {
+            Set<HaID> componentsUnordered = componentsPerThingID.computeIfAbsent(thingID,
+                    key -> ConcurrentHashMap.newKeySet());
 
-                // Invariant. For compiler, computeIfAbsent above returns always
-                // non-null
-                Objects.requireNonNull(componentsUnordered);
-                componentsUnordered.add(haID);
+            // Invariant. For compiler, computeIfAbsent above returns always
+            // non-null
+            Objects.requireNonNull(componentsUnordered);
+            componentsUnordered.add(haID);
 
-                components = componentsUnordered.stream().collect(Collectors.toList());
-                // We sort the components for consistent jsondb serialization order of 'topics' thing property
-                // Sorting key is HaID::toString, i.e. using the full topic string
-                components.sort(Comparator.comparing(HaID::toString));
-            }
+            components = componentsUnordered.stream().collect(Collectors.toList());
+            // We sort the components for consistent jsondb serialization order of 'topics' thing property
+            // Sorting key is HaID::toString, i.e. using the full topic string
+            components.sort(Comparator.comparing(HaID::toString));
+        }
 
-            final String componentNames = getComponentNamesSummary(
-                    components.stream().map(id -> id.component).map(c -> HA_COMP_TO_NAME.getOrDefault(c, c)));
+        final String componentNames = getComponentNamesSummary(
+                components.stream().map(id -> id.component).map(c -> HA_COMP_TO_NAME.getOrDefault(c, c)));
 
-            final List<String> topics = components.stream().map(HaID::toShortTopic).collect(Collectors.toList());
+        final List<String> topics = components.stream().map(HaID::toShortTopic).collect(Collectors.toList());
 
-            Map<String, Object> properties = new HashMap<>();
-            HandlerConfiguration handlerConfig = new HandlerConfiguration(haID.baseTopic, topics);
-            properties = handlerConfig.appendToProperties(properties);
-            properties = config.appendToProperties(properties);
-            properties.put("deviceId", thingID);
+        Map<String, Object> properties = new HashMap<>();
+        HandlerConfiguration handlerConfig = new HandlerConfiguration(haID.baseTopic, topics);
+        properties = handlerConfig.appendToProperties(properties);
+        properties = config.appendToProperties(properties);
+        properties.put("deviceId", thingID);
 
-            // Because we need the new properties map with the updated "components" list
-            results.put(thingUID.getAsString(),
-                    DiscoveryResultBuilder.create(thingUID).withProperties(properties)
-                            .withRepresentationProperty("deviceId").withBridge(connectionBridge)
-                            .withLabel(config.getThingName() + " (" + componentNames + ")").build());
-        } catch (ConfigurationException e) {
-            logger.warn("HomeAssistant discover error: invalid configuration of thing {} component {}: {}",
-                    haID.objectID, haID.component, e.getMessage());
-        } catch (Exception e) {
-            logger.warn("HomeAssistant discover error: {}", e.getMessage());
-        }
+        // Because we need the new properties map with the updated "components" list
+        results.put(thingUID.getAsString(),
+                DiscoveryResultBuilder.create(thingUID).withProperties(properties)
+                        .withRepresentationProperty("deviceId").withBridge(connectionBridge)
+                        .withLabel(config.getThingName() + " (" + componentNames + ")").build());
     }
 
     @Override
@@ -278,9 +323,15 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     protected void publishResults() {
         Collection<DiscoveryResult> localResults;
 
-        localResults = new ArrayList<>(results.values());
-        results.clear();
-        componentsPerThingID.clear();
+        synchronized (componentsPerThingID) {
+            localResults = new ArrayList<>(results.values());
+            results.clear();
+            componentsPerThingID.clear();
+        }
+        publishResults(localResults);
+    }
+
+    private void publishResults(Collection<DiscoveryResult> localResults) {
         for (DiscoveryResult result : localResults) {
             final ThingTypeUID typeID = result.getThingTypeUID();
             ThingType type = typeProvider.derive(typeID, MqttBindingConstants.HOMEASSISTANT_MQTT_THING).build();
@@ -295,6 +346,14 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         if (!topic.endsWith("/config")) {
             return;
         }
+        synchronized (componentsPerThingID) {
+            latestHashPerTopic.remove(topic);
+            configPerTopic.remove(topic);
+            removeComponent(topic);
+        }
+    }
+
+    private void removeComponent(String topic) {
         if (thingIDPerTopic.containsKey(topic)) {
             ThingUID thingUID = thingIDPerTopic.remove(topic);
             if (thingUID != null) {
@@ -257,6 +257,22 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
         delayedProcessing.accept(component);
     }
 
+    /**
+     * Callback of {@link DiscoverComponents}. Unchanged components are neither created again nor restarted.
+     */
+    @Override
+    public boolean isComponentKnown(HaID homeAssistantTopicID, int configHash) {
+        synchronized (haComponents) {
+            for (AbstractComponent<?> known : haComponents.values()) {
+                if (known.getConfigHash() == configHash && known.getHaID().equals(homeAssistantTopicID)) {
+                    known.setConfigSeen();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Callback of {@link DelayedBatchProcessing}.
      * Add all newly discovered components to the Thing and start the components.
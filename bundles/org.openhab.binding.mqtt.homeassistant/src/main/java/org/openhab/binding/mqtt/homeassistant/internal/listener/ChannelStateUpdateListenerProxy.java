@@ -13,7 +13,9 @@
 package org.openhab.binding.mqtt.homeassistant.internal.listener;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.generic.ChannelStateUpdateListener;
+import org.openhab.binding.mqtt.generic.TopicDispatcher;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
@@ -48,4 +50,9 @@ public abstract class ChannelStateUpdateListenerProxy implements ChannelStateUpd
     public void triggerChannel(ChannelUID channelUID, String eventPayload) {
         original.triggerChannel(channelUID, eventPayload);
     }
+
+    @Override
+    public @Nullable TopicDispatcher getTopicDispatcher() {
+        return original.getTopicDispatcher();
+    }
 }
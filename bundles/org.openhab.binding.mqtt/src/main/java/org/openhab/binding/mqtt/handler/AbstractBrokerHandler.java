@@ -12,17 +12,23 @@
  */
 package org.openhab.binding.mqtt.handler;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.discovery.MQTTTopicDiscoveryParticipant;
 import org.openhab.binding.mqtt.discovery.TopicSubscribe;
+import org.openhab.binding.mqtt.internal.TopicTrie;
 import org.openhab.binding.mqtt.internal.action.MQTTActions;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.io.transport.mqtt.MqttConnectionObserver;
@@ -32,6 +38,7 @@ import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
 import org.openhab.core.thing.binding.ThingHandlerService;
 import org.openhab.core.types.Command;
@@ -42,6 +49,10 @@ import org.slf4j.LoggerFactory;
  * This base implementation handles connection changes of the {@link MqttBrokerConnection}
  * and puts the Thing on or offline. It also provides a basic dispose() implementation.
  *
+ * Discovery participants often register overlapping wildcard topics. Only topics that are not covered by another
+ * registered topic are subscribed on the broker, and the received messages are routed to the participants of all
+ * covered topics with a {@link TopicTrie}.
+ *
  * @author David Graeff - Initial contribution
  */
 @NonNullByDefault
@@ -50,7 +61,8 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
     private final Logger logger = LoggerFactory.getLogger(AbstractBrokerHandler.class);
 
     final Map<ChannelUID, PublishTriggerChannel> channelStateByChannelUID = new HashMap<>();
-    private final Map<String, @Nullable Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe>> discoveryTopics = new HashMap<>();
+    private final Map<String, Set<MQTTTopicDiscoveryParticipant>> discoveryTopics = new HashMap<>();
+    private final Map<String, DiscoveryRouter> discoveryRouters = new HashMap<>();
 
     protected @Nullable MqttBrokerConnection connection;
     protected CompletableFuture<MqttBrokerConnection> connectionFuture = new CompletableFuture<>();
@@ -116,28 +128,15 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         });
         connectionFuture.complete(connection);
 
-        discoveryTopics.forEach((topic, listenerMap) -> {
-            listenerMap.replaceAll((listener, oldTopicSubscribe) -> {
-                if (oldTopicSubscribe.isStarted()) {
-                    oldTopicSubscribe.stop();
-                }
-
-                TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
-                if (discoveryEnabled()) {
-                    topicSubscribe.start().handle((result, ex) -> {
-                        if (ex != null) {
-                            logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
-                                    thing.getUID());
-                        } else {
-                            logger.trace("Subscribed {} to discovery topic {} on broker {}", listener, topic,
-                                    thing.getUID());
-                        }
-                        return null;
-                    });
+        synchronized (discoveryTopics) {
+            discoveryRouters.values().forEach(router -> {
+                if (router.topicSubscribe.isStarted()) {
+                    router.topicSubscribe.stop();
                 }
-                return topicSubscribe;
+                router.topicSubscribe = new TopicSubscribe(connection, router.topic, router, thing.getUID());
+                router.start();
             });
-        });
+        }
     }
 
     @Override
@@ -169,11 +168,9 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
         channelStateByChannelUID.clear();
 
         // keep topics, but stop subscriptions
-        discoveryTopics.forEach((topic, listenerMap) -> {
-            listenerMap.forEach((listener, topicSubscribe) -> {
-                topicSubscribe.stop();
-            });
-        });
+        synchronized (discoveryTopics) {
+            discoveryRouters.values().forEach(router -> router.topicSubscribe.stop());
+        }
 
         if (connection != null) {
             connection.removeConnectionObserver(this);
@@ -193,30 +190,36 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
      * @param topic the topic (wildcards supported)
      */
     public final void registerDiscoveryListener(MQTTTopicDiscoveryParticipant listener, String topic) {
-        Map<MQTTTopicDiscoveryParticipant, @Nullable TopicSubscribe> topicListeners = discoveryTopics
-                .computeIfAbsent(topic, t -> new HashMap<>());
-        topicListeners.compute(listener, (k, v) -> {
-            if (v != null) {
+        synchronized (discoveryTopics) {
+            if (!discoveryTopics.computeIfAbsent(topic, t -> new HashSet<>()).add(listener)) {
                 logger.warn("Duplicate subscription for {} to discovery topic {} on broker {}. Check discovery logic!",
                         listener, topic, thing.getUID());
-                v.stop();
+                return;
             }
-
-            TopicSubscribe topicSubscribe = new TopicSubscribe(connection, topic, listener, thing.getUID());
-            if (discoveryEnabled()) {
-                topicSubscribe.start().handle((result, ex) -> {
-                    if (ex != null) {
-                        logger.warn("Failed to subscribe {} to discovery topic {} on broker {}", listener, topic,
-                                thing.getUID());
-                    } else {
-                        logger.trace("Subscribed {} to discovery topic {} on broker {}", listener, topic,
-                                thing.getUID());
+            DiscoveryRouter router = findDiscoveryRouter(topic);
+            if (router != null) {
+                // nothing new is subscribed at the broker, so it does not send the retained messages again
+                router.add(topic, listener);
+                router.replay(topic, listener);
+            } else {
+                router = new DiscoveryRouter(topic);
+                // take over the topics covered by the new subscription
+                List<DiscoveryRouter> coveredRouters = new ArrayList<>();
+                Iterator<DiscoveryRouter> it = discoveryRouters.values().iterator();
+                while (it.hasNext()) {
+                    DiscoveryRouter other = it.next();
+                    if (TopicTrie.covers(topic, other.topic)) {
+                        other.topics.forEach(router::addTopic);
+                        coveredRouters.add(other);
+                        it.remove();
                     }
-                    return null;
-                });
+                }
+                discoveryRouters.put(topic, router);
+                router.add(topic, listener);
+                router.start();
+                coveredRouters.forEach(other -> other.topicSubscribe.stop());
             }
-            return topicSubscribe;
-        });
+        }
     }
 
     /**
@@ -226,27 +229,140 @@ public abstract class AbstractBrokerHandler extends BaseBridgeHandler implements
      * @param topic the topic (as specified during registration)
      */
     public final void unregisterDiscoveryListener(MQTTTopicDiscoveryParticipant listener, String topic) {
-        discoveryTopics.compute(topic, (k, v) -> {
-            if (v == null) {
+        synchronized (discoveryTopics) {
+            Set<MQTTTopicDiscoveryParticipant> listeners = discoveryTopics.get(topic);
+            if (listeners == null) {
                 logger.warn(
                         "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered at all. Check discovery logic!",
                         listener, topic, thing.getUID());
-                return null;
+                return;
+            }
+            if (!listeners.remove(listener)) {
+                logger.warn(
+                        "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered for listener. Check discovery logic!",
+                        listener, topic, thing.getUID());
+                return;
+            }
+            if (listeners.isEmpty()) {
+                discoveryTopics.remove(topic);
+            }
+            logger.trace("Unsubscribed {} from discovery topic {} on broker {}", listener, topic, thing.getUID());
+
+            DiscoveryRouter router = findDiscoveryRouter(topic);
+            if (router == null) {
+                return;
+            }
+            router.remove(topic, listener);
+            if (!router.topics.contains(router.topic)) {
+                // the subscription is broader than needed now, subscribe the remaining topics again
+                discoveryRouters.remove(router.topic);
+                router.topicSubscribe.stop();
+                for (String remainingTopic : router.topics) {
+                    Set<MQTTTopicDiscoveryParticipant> remainingListeners = discoveryTopics.remove(remainingTopic);
+                    if (remainingListeners != null) {
+                        remainingListeners.forEach(l -> registerDiscoveryListener(l, remainingTopic));
+                    }
+                }
             }
-            v.compute(listener, (l, w) -> {
-                if (w == null) {
-                    logger.warn(
-                            "Tried to unsubscribe {} from  discovery topic {} on broker {} but topic not registered for listener. Check discovery logic!",
-                            listener, topic, thing.getUID());
+        }
+    }
+
+    private @Nullable DiscoveryRouter findDiscoveryRouter(String topic) {
+        for (DiscoveryRouter router : discoveryRouters.values()) {
+            if (router.topics.contains(topic)) {
+                return router;
+            }
+        }
+        for (DiscoveryRouter router : discoveryRouters.values()) {
+            if (TopicTrie.covers(router.topic, topic)) {
+                return router;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Routes the messages of one broker subscription to the participants of all discovery topics it covers.
+     */
+    private class DiscoveryRouter implements MQTTTopicDiscoveryParticipant {
+        private final String topic;
+        private final Set<String> topics = new HashSet<>();
+        private final TopicTrie<MQTTTopicDiscoveryParticipant> participants = new TopicTrie<>();
+        /** Last message per topic, replayed to participants added after the subscription */
+        private final Map<String, byte[]> lastMessages = new ConcurrentHashMap<>();
+        private TopicSubscribe topicSubscribe;
+
+        private DiscoveryRouter(String topic) {
+            this.topic = topic;
+            this.topicSubscribe = new TopicSubscribe(connection, topic, this, thing.getUID());
+        }
+
+        private void addTopic(String coveredTopic) {
+            Set<MQTTTopicDiscoveryParticipant> listeners = discoveryTopics.get(coveredTopic);
+            if (listeners != null) {
+                listeners.forEach(listener -> add(coveredTopic, listener));
+            }
+        }
+
+        private void add(String coveredTopic, MQTTTopicDiscoveryParticipant listener) {
+            topics.add(coveredTopic);
+            participants.add(coveredTopic, listener);
+        }
+
+        /**
+         * Passes the last message of each topic matching a discovery topic to a participant, like the retained
+         * messages the broker sends for a new subscription.
+         */
+        private void replay(String coveredTopic, MQTTTopicDiscoveryParticipant listener) {
+            MqttBrokerConnection connection = AbstractBrokerHandler.this.connection;
+            if (connection == null) {
+                return;
+            }
+            lastMessages.forEach((messageTopic, payload) -> {
+                if (TopicTrie.covers(coveredTopic, messageTopic)) {
+                    listener.receivedMessage(thing.getUID(), connection, messageTopic, payload);
+                }
+            });
+        }
+
+        private void remove(String coveredTopic, MQTTTopicDiscoveryParticipant listener) {
+            participants.remove(coveredTopic, listener);
+            if (!discoveryTopics.containsKey(coveredTopic)) {
+                topics.remove(coveredTopic);
+            }
+        }
+
+        private void start() {
+            if (!discoveryEnabled()) {
+                return;
+            }
+            topicSubscribe.start().handle((result, ex) -> {
+                if (ex != null) {
+                    logger.warn("Failed to subscribe to discovery topic {} on broker {}", topic, thing.getUID());
                 } else {
-                    w.stop();
-                    logger.trace("Unsubscribed {} from discovery topic {} on broker {}", listener, topic,
-                            thing.getUID());
+                    logger.trace("Subscribed to discovery topic {} on broker {}", topic, thing.getUID());
                 }
                 return null;
             });
-            return v.isEmpty() ? null : v;
-        });
+        }
+
+        @Override
+        public void receivedMessage(ThingUID thingUID, MqttBrokerConnection connection, String topic,
+                byte[] payload) {
+            lastMessages.put(topic, payload);
+            participants.match(topic, listener -> listener.receivedMessage(thingUID, connection, topic, payload));
+        }
+
+        @Override
+        public void topicVanished(ThingUID thingUID, MqttBrokerConnection connection, String topic) {
+            lastMessages.remove(topic);
+            participants.match(topic, listener -> listener.topicVanished(thingUID, connection, topic));
+        }
+
+        @Override
+        public String toString() {
+            return "DiscoveryRouter{" + topic + "}";
+        }
     }
 
     /**
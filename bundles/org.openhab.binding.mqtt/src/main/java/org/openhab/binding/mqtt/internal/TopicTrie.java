@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.internal;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link TopicTrie} stores values for MQTT topic filters and finds the values of all filters matching a topic.
+ *
+ * Filters are split into their levels, so a topic is matched level by level instead of against every single filter.
+ * The wildcards <code>+</code> and <code>#</code> follow the MQTT specification: <code>#</code> also matches the
+ * parent level, and wildcards in the first level do not match topics starting with <code>$</code>.
+ *
+ * Matching does not lock and may run concurrently with modifications.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class TopicTrie<T> {
+    private static final String SINGLE_LEVEL = "+";
+    private static final String MULTI_LEVEL = "#";
+
+    private static class Node<T> {
+        private final Map<String, Node<T>> children = new ConcurrentHashMap<>();
+        private final Set<T> values = new CopyOnWriteArraySet<>();
+
+        private boolean isEmpty() {
+            return children.isEmpty() && values.isEmpty();
+        }
+    }
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Adds a value for the given filter.
+     *
+     * @param filter the topic filter, may contain wildcards
+     * @param value the value
+     * @return true if the value was not registered for the filter before
+     */
+    public synchronized boolean add(String filter, T value) {
+        Node<T> node = root;
+        for (String level : filter.split("/", -1)) {
+            node = node.children.computeIfAbsent(level, l -> new Node<>());
+        }
+        return node.values.add(value);
+    }
+
+    /**
+     * Removes a value from the given filter.
+     *
+     * @param filter the topic filter as given to {@link #add(String, Object)}
+     * @param value the value
+     * @return true if the value was registered for the filter
+     */
+    public synchronized boolean remove(String filter, T value) {
+        return remove(root, filter.split("/", -1), 0, value);
+    }
+
+    private boolean remove(Node<T> node, String[] levels, int index, T value) {
+        if (index == levels.length) {
+            return node.values.remove(value);
+        }
+        Node<T> child = node.children.get(levels[index]);
+        if (child == null || !remove(child, levels, index + 1, value)) {
+            return false;
+        }
+        if (child.isEmpty()) {
+            node.children.remove(levels[index]);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if no value is stored.
+     */
+    public boolean isEmpty() {
+        return root.isEmpty();
+    }
+
+    /**
+     * Calls the consumer for each value of each filter that matches the given topic. A value registered for several
+     * matching filters is passed once per filter.
+     *
+     * @param topic the topic of a message, without wildcards
+     * @param consumer the consumer of the matching values
+     */
+    public void match(String topic, Consumer<T> consumer) {
+        String[] levels = topic.split("/", -1);
+        match(root, levels, 0, !levels[0].startsWith("$"), consumer);
+    }
+
+    private void match(Node<T> node, String[] levels, int index, boolean wildcards, Consumer<T> consumer) {
+        if (wildcards) {
+            Node<T> multiLevel = node.children.get(MULTI_LEVEL);
+            if (multiLevel != null) {
+                multiLevel.values.forEach(consumer);
+            }
+        }
+        if (index == levels.length) {
+            node.values.forEach(consumer);
+            return;
+        }
+        Node<T> child = node.children.get(levels[index]);
+        if (child != null) {
+            match(child, levels, index + 1, true, consumer);
+        }
+        if (wildcards) {
+            Node<T> singleLevel = node.children.get(SINGLE_LEVEL);
+            if (singleLevel != null) {
+                match(singleLevel, levels, index + 1, true, consumer);
+            }
+        }
+    }
+
+    /**
+     * Checks if every topic matched by a filter is also matched by another filter.
+     *
+     * @param filter the filter which might cover the other one
+     * @param other the other filter
+     * @return true if the filter matches all topics the other filter matches
+     */
+    public static boolean covers(String filter, String other) {
+        String[] levels = filter.split("/", -1);
+        String[] otherLevels = other.split("/", -1);
+        for (int i = 0; i < levels.length; i++) {
+            if (MULTI_LEVEL.equals(levels[i])) {
+                // a wildcard in the first level does not match $ topics, which the other filter might name
+                return i > 0 || otherLevels[0].equals(MULTI_LEVEL) || otherLevels[0].equals(SINGLE_LEVEL)
+                        || !otherLevels[0].startsWith("$");
+            }
+            if (i >= otherLevels.length) {
+                return false;
+            }
+            String otherLevel = otherLevels[i];
+            if (SINGLE_LEVEL.equals(levels[i])) {
+                if (MULTI_LEVEL.equals(otherLevel) || (i == 0 && otherLevel.startsWith("$"))) {
+                    return false;
+                }
+            } else if (!levels[i].equals(otherLevel)) {
+                return false;
+            }
+        }
+        return levels.length == otherLevels.length;
+    }
+}
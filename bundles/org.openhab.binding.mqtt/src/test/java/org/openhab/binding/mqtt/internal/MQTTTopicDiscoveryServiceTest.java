@@ -12,11 +12,12 @@
  */
 package org.openhab.binding.mqtt.internal;
 
-import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 
@@ -51,6 +52,7 @@ public class MQTTTopicDiscoveryServiceTest {
     private @Mock @NonNullByDefault({}) Bridge thingMock;
     private @Mock @NonNullByDefault({}) ThingHandlerCallback callbackMock;
     private @Mock @NonNullByDefault({}) MQTTTopicDiscoveryParticipant listenerMock;
+    private @Mock @NonNullByDefault({}) MQTTTopicDiscoveryParticipant otherListenerMock;
 
     private @NonNullByDefault({}) MqttBrokerConnectionEx connection;
     private @NonNullByDefault({}) BrokerHandler handler;
@@ -141,4 +143,53 @@ public class MQTTTopicDiscoveryServiceTest {
         connection.getSubscribers().get("topic").messageArrived("topic", bytes, false);
         verify(listenerMock).topicVanished(eq(thingMock.getUID()), eq(connection), eq("topic"));
     }
+
+    @Test
+    public void overlappingTopicsShareSubscription() {
+        handler.initialize();
+        BrokerHandlerEx.verifyCreateBrokerConnection(handler, 1);
+
+        subject.createdHandler(handler);
+        subject.subscribe(listenerMock, "homeassistant/+/+/config");
+        subject.subscribe(otherListenerMock, "homeassistant/#");
+        assertThat(connection.getSubscribers().keySet(), is(Set.of("homeassistant/#")));
+
+        // Simulate receiving
+        final byte[] bytes = "TEST".getBytes();
+        connection.getSubscribers().get("homeassistant/#").messageArrived("homeassistant/sensor/x/config", bytes,
+                false);
+        connection.getSubscribers().get("homeassistant/#").messageArrived("homeassistant/sensor/x/state", bytes,
+                false);
+        verify(listenerMock).receivedMessage(eq(thingMock.getUID()), eq(connection),
+                eq("homeassistant/sensor/x/config"), eq(bytes));
+        verify(otherListenerMock, times(2)).receivedMessage(eq(thingMock.getUID()), eq(connection), anyString(),
+                eq(bytes));
+
+        // The narrower topic is subscribed again when the covering one is gone
+        subject.unsubscribe(otherListenerMock);
+        assertThat(connection.getSubscribers().keySet(), is(Set.of("homeassistant/+/+/config")));
+    }
+
+    @Test
+    public void lateParticipantOnCoveredTopicReceivesRetainedMessages() {
+        handler.initialize();
+        BrokerHandlerEx.verifyCreateBrokerConnection(handler, 1);
+
+        subject.createdHandler(handler);
+        subject.subscribe(listenerMock, "homeassistant/#");
+
+        // Retained messages sent by the broker for the first subscription
+        final byte[] bytes = "TEST".getBytes();
+        connection.getSubscribers().get("homeassistant/#").messageArrived("homeassistant/sensor/x/config", bytes,
+                true);
+        connection.getSubscribers().get("homeassistant/#").messageArrived("homeassistant/sensor/x/state", bytes,
+                true);
+
+        // No new subscription at the broker, the messages are passed on by the existing one
+        subject.subscribe(otherListenerMock, "homeassistant/+/+/config");
+        assertThat(connection.getSubscribers().keySet(), is(Set.of("homeassistant/#")));
+        verify(otherListenerMock).receivedMessage(eq(thingMock.getUID()), eq(connection),
+                eq("homeassistant/sensor/x/config"), eq(bytes));
+        verify(otherListenerMock, never()).receivedMessage(any(), any(), eq("homeassistant/sensor/x/state"), any());
+    }
 }
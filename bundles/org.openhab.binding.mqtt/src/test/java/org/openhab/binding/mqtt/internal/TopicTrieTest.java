@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link TopicTrie}.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class TopicTrieTest {
+
+    private List<String> match(TopicTrie<String> trie, String topic) {
+        List<String> result = new ArrayList<>();
+        trie.match(topic, result::add);
+        return result;
+    }
+
+    @Test
+    public void matchesWildcards() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("homeassistant/#", "ha");
+        trie.add("homie/+/$homie", "homie");
+        trie.add("milight/states/+", "milight");
+        trie.add("exact/topic", "exact");
+
+        assertThat(match(trie, "homeassistant/sensor/x/config"), containsInAnyOrder("ha"));
+        assertThat(match(trie, "homeassistant"), containsInAnyOrder("ha"));
+        assertThat(match(trie, "homie/device/$homie"), containsInAnyOrder("homie"));
+        assertThat(match(trie, "homie/device/$name"), is(empty()));
+        assertThat(match(trie, "milight/states/0x1"), containsInAnyOrder("milight"));
+        assertThat(match(trie, "milight/states/0x1/extra"), is(empty()));
+        assertThat(match(trie, "exact/topic"), containsInAnyOrder("exact"));
+        assertThat(match(trie, "exact"), is(empty()));
+    }
+
+    @Test
+    public void matchesOverlappingFilters() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("a/#", "one");
+        trie.add("a/+/c", "two");
+        trie.add("a/b/c", "three");
+        trie.add("+/b/#", "one");
+
+        assertThat(match(trie, "a/b/c"), containsInAnyOrder("one", "one", "two", "three"));
+        assertThat(match(trie, "a/x/c"), containsInAnyOrder("one", "two"));
+    }
+
+    @Test
+    public void wildcardsDoNotMatchSystemTopics() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("#", "all");
+        trie.add("+/broker", "plus");
+        trie.add("$SYS/#", "sys");
+
+        assertThat(match(trie, "$SYS/broker"), containsInAnyOrder("sys"));
+        assertThat(match(trie, "other/broker"), containsInAnyOrder("all", "plus"));
+    }
+
+    @Test
+    public void removesValues() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        assertTrue(trie.add("a/+/c", "one"));
+        assertFalse(trie.add("a/+/c", "one"));
+        trie.add("a/+/c", "two");
+
+        assertTrue(trie.remove("a/+/c", "one"));
+        assertFalse(trie.remove("a/+/c", "one"));
+        assertFalse(trie.remove("a/b", "two"));
+        assertThat(match(trie, "a/b/c"), containsInAnyOrder("two"));
+
+        trie.remove("a/+/c", "two");
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public void routesManyRetainedTopics() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.add("homeassistant/+/+/config", "ha");
+        trie.add("homeassistant/+/+/+/config", "ha");
+        trie.add("homie/+/$homie", "homie");
+        trie.add("milight/states/+", "milight");
+
+        int matched = 0;
+        for (int i = 0; i < 50000; i++) {
+            List<String> result = match(trie, "homeassistant/sensor/device" + i + "/config");
+            matched += result.size();
+        }
+        assertThat(matched, is(50000));
+    }
+
+    @Test
+    public void coversFilters() {
+        assertTrue(TopicTrie.covers("homeassistant/#", "homeassistant/+/+/config"));
+        assertTrue(TopicTrie.covers("homeassistant/#", "homeassistant"));
+        assertTrue(TopicTrie.covers("a/+/c", "a/b/c"));
+        assertTrue(TopicTrie.covers("a/b", "a/b"));
+        assertTrue(TopicTrie.covers("#", "+/b"));
+        assertFalse(TopicTrie.covers("a/b/c", "a/+/c"));
+        assertFalse(TopicTrie.covers("a/+/c", "a/b/#"));
+        assertFalse(TopicTrie.covers("a/+", "a/b/c"));
+        assertFalse(TopicTrie.covers("#", "$SYS/broker"));
+        assertFalse(TopicTrie.covers("+/broker", "$SYS/broker"));
+    }
+}
@@ -27,10 +27,10 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -47,6 +47,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
 import org.openhab.core.cache.ExpiringCache;
 import org.openhab.core.cache.ExpiringCacheAsync;
+import org.openhab.core.common.NamedThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,7 +64,16 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     private static final Duration DESTINATION_TTL = Duration.ofMinutes(5);
 
+    /**
+     * Runs the blocking checks (ICMP and ARP pings) of all presence detections of the binding. Threads are reused
+     * across refreshes and end when idle.
+     */
+    private static final ExecutorService CHECK_EXECUTOR = Executors
+            .newCachedThreadPool(new NamedThreadFactory("binding-network-presence", true));
+
     NetworkUtils networkUtils = new NetworkUtils();
+    // cannot be final because of test dependency injections
+    ExecutorService executorService = CHECK_EXECUTOR;
     private final Logger logger = LoggerFactory.getLogger(PresenceDetection.class);
 
     /// Configuration variables
@@ -93,8 +103,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     private Set<String> networkInterfaceNames = Set.of();
     private @Nullable ScheduledFuture<?> refreshJob;
-    protected @Nullable ExecutorService detectionExecutorService;
-    protected @Nullable ExecutorService waitForResultExecutorService;
+    private List<CompletableFuture<Void>> runningChecks = List.of();
     private String dhcpState = "off";
     int detectionChecks;
     private String lastReachableNetworkInterfaceName = "";
@@ -285,10 +294,6 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(this::performPresenceDetection).thenAccept(callback);
     }
 
-    public ExecutorService getThreadsFor(int threadCount) {
-        return Executors.newFixedThreadPool(threadCount);
-    }
-
     private void withDestinationAddress(Consumer<InetAddress> consumer) {
         InetAddress destinationAddress = destination.getValue();
         if (destinationAddress == null) {
@@ -299,23 +304,18 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     }
 
     private void stopDetection() {
-        ExecutorService detectionExecutorService = this.detectionExecutorService;
-        if (detectionExecutorService != null) {
-            logger.debug("Shutting down detectionExecutorService");
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
-        }
-        ExecutorService waitForResultExecutorService = this.waitForResultExecutorService;
-        if (waitForResultExecutorService != null) {
-            logger.debug("Shutting down waitForResultExecutorService");
-            waitForResultExecutorService.shutdownNow();
-            this.waitForResultExecutorService = null;
+        List<CompletableFuture<Void>> runningChecks = this.runningChecks;
+        if (!runningChecks.isEmpty()) {
+            logger.debug("Cancelling {} running detection checks for {}", runningChecks.size(), hostname);
+            runningChecks.forEach(check -> check.cancel(false));
+            this.runningChecks = List.of();
         }
     }
 
     /**
      * Perform a presence detection with ICMP-, ARP ping and TCP connection attempts simultaneously.
-     * A fixed thread pool will be created with as many threads as necessary to perform all tests at once.
+     * TCP connection attempts do not block a thread. ICMP and ARP pings are executed by a binding-wide executor.
+     * The final result is passed on when the last check has finished, without a thread waiting for it.
      *
      * Please be aware of the following restrictions:
      * <ul>
@@ -353,59 +353,45 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
         stopDetection();
 
-        ExecutorService detectionExecutorService = getThreadsFor(detectionChecks);
-        this.detectionExecutorService = detectionExecutorService;
-        ExecutorService waitForResultExecutorService = getThreadsFor(1);
-        this.waitForResultExecutorService = waitForResultExecutorService;
-
         List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
 
         for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + tcpPort);
-                performServicePing(pdv, tcpPort);
-            }, detectionExecutorService);
+            completableFutures.add(performServicePing(pdv, tcpPort));
         }
 
-        // ARP ping for IPv4 addresses. Use single executor for Windows tool and
-        // each own executor for each network interface for other tools
+        // ARP ping for IPv4 addresses. Use single check for Windows tool and
+        // a check for each network interface for other tools
         if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionARP_" + hostname + " ");
-                // arp-ping.exe tool capable of handling multiple interfaces by itself
-                performArpPing(pdv, "");
-            }, detectionExecutorService);
+            // arp-ping.exe tool capable of handling multiple interfaces by itself
+            addAsyncDetection(completableFutures, () -> performArpPing(pdv, ""));
         } else if (interfaceNames != null) {
             for (final String interfaceName : interfaceNames) {
-                addAsyncDetection(completableFutures, () -> {
-                    Thread.currentThread().setName("presenceDetectionARP_" + hostname + " " + interfaceName);
-                    performArpPing(pdv, interfaceName);
-                }, detectionExecutorService);
+                addAsyncDetection(completableFutures, () -> performArpPing(pdv, interfaceName));
             }
         }
 
         // ICMP ping
         if (pingMethod != null) {
             addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionICMP_" + hostname);
                 if (pingMethod == IpPingMethodEnum.JAVA_PING) {
                     performJavaPing(pdv);
                 } else {
                     performSystemPing(pdv);
                 }
-            }, detectionExecutorService);
+            });
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            Thread.currentThread().setName("presenceDetectionResult_" + hostname);
-            logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
-            completableFutures.forEach(completableFuture -> {
-                try {
-                    completableFuture.join();
-                } catch (CancellationException | CompletionException e) {
-                    logger.debug("Detection future failed to complete", e);
-                }
-            });
+        runningChecks = completableFutures;
+        logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
+
+        CompletableFuture<?>[] checks = completableFutures.stream().map(completableFuture -> completableFuture
+                .exceptionally(e -> {
+                    if (!(e instanceof CancellationException)) {
+                        logger.debug("Detection future failed to complete", e);
+                    }
+                    return null;
+                })).toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(checks).thenApply(v -> {
             logger.debug("All {} detection futures for {} have completed", completableFutures.size(), hostname);
 
             if (!pdv.isReachable()) {
@@ -416,18 +402,32 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             logger.debug("Sending listener final result: {}", pdv);
             updateListener.finalDetectionResult(pdv);
 
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
+            if (runningChecks == completableFutures) {
+                runningChecks = List.of();
+            }
             detectionChecks = 0;
 
             return pdv;
-        }, waitForResultExecutorService);
+        });
     }
 
-    private void addAsyncDetection(List<CompletableFuture<Void>> completableFutures, Runnable detectionRunnable,
-            ExecutorService executorService) {
-        completableFutures.add(CompletableFuture.runAsync(detectionRunnable, executorService)
-                .orTimeout(timeout.plusSeconds(3).toMillis(), TimeUnit.MILLISECONDS));
+    /**
+     * Runs a blocking check on the shared executor. The check is interrupted when it times out or the detection
+     * is stopped.
+     */
+    private void addAsyncDetection(List<CompletableFuture<Void>> completableFutures, Runnable detectionRunnable) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        FutureTask<@Nullable Void> task = new FutureTask<>(() -> {
+            try {
+                detectionRunnable.run();
+                future.complete(null);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, null);
+        future.whenComplete((result, e) -> task.cancel(true));
+        executorService.execute(task);
+        completableFutures.add(future.orTimeout(timeout.plusSeconds(3).toMillis(), TimeUnit.MILLISECONDS));
     }
 
     /**
@@ -471,19 +471,22 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         updateListener.partialDetectionResult(pdv);
     }
 
-    protected void performServicePing(PresenceDetectionValue pdv, int tcpPort) {
+    protected CompletableFuture<Void> performServicePing(PresenceDetectionValue pdv, int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                PingResult pingResult = networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeout);
-                if (pingResult.isSuccess()) {
-                    updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
-                }
-            } catch (IOException e) {
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            logger.trace("The destinationAddress for {} is null", hostname);
+            return CompletableFuture.completedFuture(null);
+        }
+        return networkUtils.servicePingAsync(destinationAddress, tcpPort, timeout).handle((pingResult, e) -> {
+            if (e != null) {
                 // This should not happen and might be a user configuration issue, we log a warning message therefore.
                 logger.warn("Could not create a socket connection", e);
+            } else if (pingResult.isSuccess()) {
+                updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
             }
+            return null;
         });
     }
 
@@ -582,13 +585,13 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         if (future != null && !future.isDone()) {
             future.cancel(true);
         }
+        // the refresh only starts the detection and does not block a scheduler thread until it has finished
         refreshJob = scheduledExecutorService.scheduleWithFixedDelay(() -> {
-            try {
-                logger.debug("Refreshing {} reachability state", hostname);
-                getValue();
-            } catch (InterruptedException | ExecutionException e) {
+            logger.debug("Refreshing {} reachability state", hostname);
+            cache.getValue(this::performPresenceDetection).exceptionally(e -> {
                 logger.debug("Failed to refresh {} presence detection", hostname, e);
-            }
+                return null;
+            });
         }, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
     }
 
@@ -36,6 +36,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -84,6 +85,8 @@ public class NetworkUtils {
         return Duration.ofNanos((long) (millis * NANOS_PER_MILLI));
     }
 
+    private static final TcpConnectProber TCP_CONNECT_PROBER = new TcpConnectProber();
+
     private final Logger logger = LoggerFactory.getLogger(NetworkUtils.class);
 
     private LatencyParser latencyParser = new LatencyParser();
@@ -225,6 +228,20 @@ public class NetworkUtils {
         return new PingResult(success, Duration.between(execStartTime, Instant.now()));
     }
 
+    /**
+     * Try to establish a TCP connection to the given port without blocking the calling thread. The connection
+     * attempts of all callers share a single binding-wide selector thread.
+     *
+     * @param address the resolved address
+     * @param port the TCP port. Must be not 0.
+     * @param timeout the timeout before the attempt aborts
+     * @return a future with the {@link PingResult} of connecting to the given port. It is completed on the selector
+     *         thread, so dependent actions must not block.
+     */
+    public CompletableFuture<PingResult> servicePingAsync(InetAddress address, int port, Duration timeout) {
+        return TCP_CONNECT_PROBER.probe(new InetSocketAddress(address, port), timeout);
+    }
+
     /**
      * Return the working method for the native system ping. If no native ping
      * works JavaPing is returned.
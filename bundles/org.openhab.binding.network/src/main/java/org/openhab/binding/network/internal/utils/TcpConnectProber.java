@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Performs TCP connection attempts without blocking a thread per attempt. All pending connection attempts are
+ * multiplexed on a single selector thread, which is started on demand and ends after some idle time.
+ * <p>
+ * The returned futures are completed on the selector thread, so dependent actions must not block.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class TcpConnectProber {
+    private static final Duration IDLE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Logger logger = LoggerFactory.getLogger(TcpConnectProber.class);
+    private final Queue<Probe> newProbes = new ConcurrentLinkedQueue<>();
+    private @Nullable Selector selector;
+
+    private static class Probe {
+        private final SocketChannel channel;
+        private final Instant start = Instant.now();
+        private final long deadline;
+        private final CompletableFuture<PingResult> future = new CompletableFuture<>();
+
+        Probe(SocketChannel channel, Duration timeout) {
+            this.channel = channel;
+            this.deadline = System.nanoTime() + timeout.toNanos();
+        }
+
+        void complete(boolean success) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the result is known already
+            }
+            future.complete(new PingResult(success, Duration.between(start, Instant.now())));
+        }
+    }
+
+    /**
+     * Tries to establish a TCP connection to the given address.
+     *
+     * @param address the resolved address and port
+     * @param timeout the timeout before the attempt is aborted
+     * @return a future with the {@link PingResult} of connecting, completed exceptionally if no connection attempt
+     *         could be made
+     */
+    public CompletableFuture<PingResult> probe(InetSocketAddress address, Duration timeout) {
+        SocketChannel channel;
+        try {
+            channel = SocketChannel.open();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        Probe probe = new Probe(channel, timeout);
+        try {
+            channel.configureBlocking(false);
+            if (channel.connect(address)) {
+                probe.complete(true);
+                return probe.future;
+            }
+            synchronized (this) {
+                newProbes.add(probe);
+                getSelector().wakeup();
+            }
+        } catch (IOException e) {
+            // refused or unreachable right away
+            logger.trace("Could not connect to {}", address, e);
+            probe.complete(false);
+        }
+        return probe.future;
+    }
+
+    private Selector getSelector() throws IOException {
+        Selector selector = this.selector;
+        if (selector == null) {
+            Selector newSelector = Selector.open();
+            Thread thread = new Thread(() -> run(newSelector), "OH-binding-network-tcpprober");
+            thread.setDaemon(true);
+            thread.start();
+            this.selector = newSelector;
+            return newSelector;
+        }
+        return selector;
+    }
+
+    private void run(Selector selector) {
+        long idleSince = System.nanoTime();
+        try {
+            while (true) {
+                Probe probe;
+                while ((probe = newProbes.poll()) != null) {
+                    try {
+                        probe.channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                    } catch (IOException e) {
+                        probe.complete(false);
+                    }
+                }
+
+                long now = System.nanoTime();
+                long waitNanos = IDLE_TIMEOUT.toNanos();
+                for (SelectionKey key : selector.keys()) {
+                    Probe pending = (Probe) key.attachment();
+                    if (!key.isValid() || pending.future.isDone()) {
+                        continue;
+                    }
+                    long remaining = pending.deadline - now;
+                    if (remaining <= 0) {
+                        pending.complete(false);
+                    } else {
+                        waitNanos = Math.min(waitNanos, remaining);
+                    }
+                }
+
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos)));
+
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    Probe connected = (Probe) key.attachment();
+                    try {
+                        connected.complete(key.isValid() && connected.channel.finishConnect());
+                    } catch (IOException e) {
+                        logger.trace("Could not connect to {}", connected.channel, e);
+                        connected.complete(false);
+                    }
+                }
+
+                if (!selector.keys().isEmpty() || !newProbes.isEmpty()) {
+                    idleSince = System.nanoTime();
+                } else if (System.nanoTime() - idleSince >= IDLE_TIMEOUT.toNanos()) {
+                    synchronized (this) {
+                        if (newProbes.isEmpty()) {
+                            this.selector = null;
+                            selector.close();
+                            return;
+                        }
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("TCP connection prober failed: {}", e.getMessage());
+            synchronized (this) {
+                this.selector = null;
+                Probe probe;
+                while ((probe = newProbes.poll()) != null) {
+                    probe.complete(false);
+                }
+            }
+            for (SelectionKey key : selector.keys()) {
+                ((Probe) key.attachment()).complete(false);
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the non-blocking TCP connection attempts.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class TcpConnectProberTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    private final TcpConnectProber prober = new TcpConnectProber();
+
+    @Test
+    public void openPortIsReachable() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            PingResult result = prober.probe(address(serverSocket.getLocalPort()), TIMEOUT).get(5, TimeUnit.SECONDS);
+
+            assertTrue(result.isSuccess());
+        }
+    }
+
+    @Test
+    public void closedPortIsNotReachable() throws Exception {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = serverSocket.getLocalPort();
+        }
+
+        PingResult result = prober.probe(address(port), TIMEOUT).get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    public void concurrentProbesShareTheProber() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 200, InetAddress.getLoopbackAddress())) {
+            List<CompletableFuture<PingResult>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(prober.probe(address(serverSocket.getLocalPort()), TIMEOUT));
+            }
+
+            for (CompletableFuture<PingResult> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+            }
+        }
+    }
+
+    private static InetSocketAddress address(int port) {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+    }
+}
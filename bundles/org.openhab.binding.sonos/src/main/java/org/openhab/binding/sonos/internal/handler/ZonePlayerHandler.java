@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -184,7 +185,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     private final Object stateLock = new Object();
     private final Object jobLock = new Object();
 
-    private final Map<String, String> stateMap = Collections.synchronizedMap(new HashMap<>());
+    private final Map<String, String> stateMap = new ConcurrentHashMap<>();
 
     private @Nullable ScheduledFuture<?> pollingJob;
     private @Nullable SonosZonePlayerState savedState;
@@ -198,6 +199,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
     private @Nullable List<SonosMusicService> musicServices;
 
+    /**
+     * Sources of the last media information update, null if it has to be updated on the next change
+     */
+    private volatile @Nullable List<@Nullable Object> mediaInformationSources;
+
     private enum LineInType {
         ANALOG,
         DIGITAL,
@@ -506,7 +512,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                         onValueReceived("CurrentURIMetaData", value1, service);
                     }
                 });
-                updateMediaInformation();
+                // The media information is only derived from the current URI and the metadata and propagated to the
+                // online group members, re-computing it may need to parse the metadata and to query TuneIn
+                if (!getMediaInformationSources().equals(mediaInformationSources)) {
+                    updateMediaInformation();
+                }
                 if (parsedValues.get("TransportState") != null) {
                     onValueReceived("TransportState", parsedValues.get("TransportState"), service);
                 }
@@ -1229,7 +1239,24 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         return getUDN().equals(getCoordinator());
     }
 
+    private List<@Nullable Object> getMediaInformationSources() {
+        List<String> onlineMembers = new ArrayList<>();
+        for (String member : getZoneGroupMembers()) {
+            try {
+                if (ThingStatus.ONLINE.equals(getHandlerByName(member).getThing().getStatus())) {
+                    onlineMembers.add(member);
+                }
+            } catch (IllegalStateException e) {
+                // the member is not known yet, it gets the media information once it is online
+            }
+        }
+        return Arrays.asList(stateMap.get("CurrentURI"), stateMap.get("CurrentURIMetaData"),
+                stateMap.get("CurrentTrackMetaData"), onlineMembers);
+    }
+
     protected void updateMediaInformation() {
+        List<@Nullable Object> sources = getMediaInformationSources();
+        boolean lookupFailed = false;
         String currentURI = getCurrentURI();
         SonosMetaData currentTrack = getTrackMetadata();
         SonosMetaData currentUriMetaData = getCurrentURIMetadata();
@@ -1252,7 +1279,9 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
             else if (isPlayingStream(currentURI) || isPlayingRadioStartedByAmazonEcho(currentURI)) {
                 // Radio stream (tune-in)
                 stationID = extractStationId(currentURI);
-                mediaInfo = SonosMediaInformation.parseTuneInMediaInfo(getOpmlData(stationID),
+                String opmlData = getOpmlData(stationID);
+                lookupFailed = opmlData == null && opmlUrl != null;
+                mediaInfo = SonosMediaInformation.parseTuneInMediaInfo(opmlData,
                         currentUriMetaData != null ? currentUriMetaData.getTitle() : null, currentTrack);
             }
 
@@ -1309,6 +1338,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         if (mediaInfo.needsUpdate() && handlerForImageUpdate != null) {
             handlerForImageUpdate.updateAlbumArtChannel(true);
         }
+        // retry a failed TuneIn lookup with the next change
+        mediaInformationSources = lookupFailed ? null : sources;
     }
 
     private @Nullable String getOpmlData(@Nullable String stationId) {
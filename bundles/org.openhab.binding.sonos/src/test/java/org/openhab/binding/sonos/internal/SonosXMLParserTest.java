@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -79,4 +80,83 @@ public class SonosXMLParserTest {
             assertEquals("Paris, France", result.get(2));
         }
     }
+
+    @Test
+    public void getAVTransportFromXML() throws IOException {
+        Map<String, String> result = SonosXMLParser.getAVTransportFromXML(load("/AVTransportLastChange.xml"));
+        assertEquals(List.of("InstanceID", "TransportState", "CurrentPlayMode", "CurrentCrossfadeMode",
+                "NumberOfTracks", "CurrentTrack", "CurrentSection", "CurrentTrackURI", "CurrentTrackDuration",
+                "CurrentTrackMetaData", "NextTrackURI", "AVTransportURI", "AVTransportURIMetaData",
+                "CurrentTransportActions", "SleepTimerGeneration", "AlarmRunning"), List.copyOf(result.keySet()));
+        assertEquals("PLAYING", result.get("TransportState"));
+        assertEquals("x-rincon-queue:RINCON_000E5812BC1801400#0", result.get("AVTransportURI"));
+        assertEquals("", result.get("AVTransportURIMetaData"));
+
+        String metaData = result.get("CurrentTrackMetaData");
+        assertNotNull(metaData);
+        SonosMetaData track = SonosXMLParser.getMetaDataFromXML(metaData);
+        assertEquals("Broken Box", track.getTitle());
+        assertEquals("Queens Of The Stone Age", track.getCreator());
+        assertEquals("Lullabies To Paralyze", track.getAlbum());
+    }
+
+    @Test
+    public void getRenderingControlFromXML() throws IOException {
+        Map<String, String> result = SonosXMLParser
+                .getRenderingControlFromXML(load("/RenderingControlLastChange.xml"));
+        assertEquals(List.of("VolumeMaster", "VolumeLF", "VolumeRF", "MuteMaster", "Bass", "Treble",
+                "LoudnessMaster", "OutputFixed", "PresetNameList"), List.copyOf(result.keySet()));
+        assertEquals("25", result.get("VolumeMaster"));
+        assertEquals("-1", result.get("Treble"));
+        assertEquals("FactoryDefaults", result.get("PresetNameList"));
+    }
+
+    @Test
+    public void replayRecordedNotifications() throws IOException {
+        String avTransport = load("/AVTransportLastChange.xml");
+        String renderingControl = load("/RenderingControlLastChange.xml");
+        Map<String, String> expectedAVTransport = SonosXMLParser.getAVTransportFromXML(avTransport);
+        Map<String, String> expectedRenderingControl = SonosXMLParser.getRenderingControlFromXML(renderingControl);
+
+        // the reader of the thread is re-used, also after a failed parse
+        assertTrue(SonosXMLParser.getAVTransportFromXML("not xml").isEmpty());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expectedAVTransport, SonosXMLParser.getAVTransportFromXML(avTransport));
+            assertEquals(expectedRenderingControl, SonosXMLParser.getRenderingControlFromXML(renderingControl));
+        }
+    }
+
+    @Test
+    public void getEntriesWithEmbeddedResourceMetaData() {
+        String xml = "<DIDL-Lite xmlns:dc=\"http://purl.org/dc/elements/1.1/\" "
+                + "xmlns:upnp=\"urn:schemas-upnp-org:metadata-1-0/upnp/\" "
+                + "xmlns:r=\"urn:schemas-rinconnetworks-com:metadata-1-0/\" "
+                + "xmlns=\"urn:schemas-upnp-org:metadata-1-0/DIDL-Lite/\">"
+                + "<item id=\"FV:2/1\" parentID=\"FV:2\" restricted=\"false\"><dc:title>Station</dc:title>"
+                + "<upnp:class>object.itemobject.item.sonos-favorite</upnp:class>"
+                + "<r:resMD>&lt;DIDL-Lite xmlns:dc=&quot;http://purl.org/dc/elements/1.1/&quot; "
+                + "xmlns:upnp=&quot;urn:schemas-upnp-org:metadata-1-0/upnp/&quot; "
+                + "xmlns=&quot;urn:schemas-upnp-org:metadata-1-0/DIDL-Lite/&quot;&gt;"
+                + "&lt;item id=&quot;F0001&quot; parentID=&quot;0&quot; restricted=&quot;true&quot;&gt;"
+                + "&lt;dc:title&gt;Station&lt;/dc:title&gt;"
+                + "&lt;upnp:class&gt;object.item.audioItem.audioBroadcast&lt;/upnp:class&gt;"
+                + "&lt;desc id=&quot;cdudn&quot;&gt;SA_RINCON3_&lt;/desc&gt;&lt;/item&gt;&lt;/DIDL-Lite&gt;</r:resMD>"
+                + "</item></DIDL-Lite>";
+
+        List<SonosEntry> entries = SonosXMLParser.getEntriesFromString(xml);
+
+        assertEquals(1, entries.size());
+        assertEquals("FV:2/1", entries.get(0).getId());
+        SonosResourceMetaData resourceMetaData = entries.get(0).getResourceMetaData();
+        assertNotNull(resourceMetaData);
+        assertEquals("F0001", resourceMetaData.getId());
+        assertEquals("SA_RINCON3_", resourceMetaData.getDesc());
+        assertEquals(1, SonosXMLParser.getEntriesFromString(xml).size());
+    }
+
+    private String load(String resource) throws IOException {
+        InputStream resourceStream = getClass().getResourceAsStream(resource);
+        assertNotNull(resourceStream);
+        return new String(resourceStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
 }
@@ -13,8 +13,15 @@
 package org.openhab.io.homekit.internal;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
@@ -27,11 +34,15 @@ import io.github.hapjava.server.impl.HomekitRoot;
  * Stores the created HomekitAccessories. GroupedAccessories are also held here
  * in a pre-created pending state until all required characteristics are found.
  *
+ * Along with each accessory, the JSON of its HAP-visible structure (services and characteristics) is kept, so that
+ * changes of an accessory can be detected without serializing all accessories again.
+ *
  * @author Andy Lintner - Initial contribution
  */
 class HomekitAccessoryRegistry {
     private @Nullable HomekitRoot bridge;
     private final Map<String, HomekitAccessory> createdAccessories = new HashMap<>();
+    private final Map<String, String> accessoryStructures = new HashMap<>();
     private int configurationRevision = 1;
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryRegistry.class);
 
@@ -59,6 +70,7 @@ class HomekitAccessoryRegistry {
     public synchronized void remove(String itemName) {
         if (createdAccessories.containsKey(itemName)) {
             HomekitAccessory accessory = createdAccessories.remove(itemName);
+            accessoryStructures.remove(itemName);
             logger.trace("Removed accessory {} for taggedItem {}", accessory, itemName);
             final HomekitRoot bridge = this.bridge;
             if (bridge != null) {
@@ -91,8 +103,16 @@ class HomekitAccessoryRegistry {
         return bridge;
     }
 
-    public synchronized void addRootAccessory(String itemName, HomekitAccessory accessory) {
+    /**
+     * Adds a root accessory.
+     *
+     * @param itemName name of the item defining the accessory
+     * @param accessory the accessory
+     * @param structure JSON of the services and characteristics of the accessory
+     */
+    public synchronized void addRootAccessory(String itemName, HomekitAccessory accessory, String structure) {
         createdAccessories.put(itemName, accessory);
+        accessoryStructures.put(itemName, structure);
         final HomekitRoot bridge = this.bridge;
         if (bridge != null) {
             bridge.addAccessory(accessory);
@@ -102,4 +122,40 @@ class HomekitAccessoryRegistry {
     public Map<String, HomekitAccessory> getAllAccessories() {
         return this.createdAccessories;
     }
+
+    /**
+     * Returns the JSON of the services and characteristics of an accessory, as passed to
+     * {@link #addRootAccessory(String, HomekitAccessory, String)}.
+     *
+     * @param itemName name of the item defining the accessory
+     * @return the structure, or null if there is no accessory for the item
+     */
+    public synchronized @Nullable String getStructure(String itemName) {
+        return accessoryStructures.get(itemName);
+    }
+
+    /**
+     * Compares the structure of two accessories. Structures which differ only in formatting or in the order of JSON
+     * object members are considered the same, since HomeKit controllers will not see a difference.
+     *
+     * @param oldStructure JSON of the old accessory, or null if there was none
+     * @param newStructure JSON of the new accessory, or null if there is none
+     * @return true if the structures are equal
+     */
+    public static boolean isSameStructure(@Nullable String oldStructure, @Nullable String newStructure) {
+        if (oldStructure == null || newStructure == null || oldStructure.equals(newStructure)) {
+            return Objects.equals(oldStructure, newStructure);
+        }
+        try {
+            return parse(oldStructure).equals(parse(newStructure));
+        } catch (JsonException e) {
+            return false;
+        }
+    }
+
+    private static JsonValue parse(String structure) {
+        try (JsonReader reader = Json.createReader(new StringReader(structure))) {
+            return reader.readValue();
+        }
+    }
 }
@@ -16,6 +16,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.StateChangeListener;
@@ -36,6 +37,15 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
 public class HomekitAccessoryUpdater {
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
     private final ConcurrentMap<ItemKey, Subscription> subscriptionsByName = new ConcurrentHashMap<>();
+    private volatile @Nullable HomekitNotificationAggregator notificationAggregator;
+
+    /**
+     * Set the aggregator which batches the change notifications. Without aggregator, changes are notified
+     * immediately.
+     */
+    public void setNotificationAggregator(@Nullable HomekitNotificationAggregator notificationAggregator) {
+        this.notificationAggregator = notificationAggregator;
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -57,12 +67,21 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Subscription subscription = (changedItem, oldState, newState) -> notifyChange(item, callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
     }
 
+    private void notifyChange(GenericItem item, HomekitCharacteristicChangeCallback callback) {
+        HomekitNotificationAggregator notificationAggregator = this.notificationAggregator;
+        if (notificationAggregator != null) {
+            notificationAggregator.changed(item.getName(), callback);
+        } else {
+            callback.changed();
+        }
+    }
+
     public void unsubscribe(GenericItem item) {
         unsubscribe(item, null);
     }
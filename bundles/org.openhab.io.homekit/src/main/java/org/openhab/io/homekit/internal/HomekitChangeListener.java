@@ -90,6 +90,11 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      */
     private final Debouncer applyUpdatesDebouncer;
 
+    /**
+     * State changes of items are collected for a short time and sent to HomeKit in one batch
+     */
+    private final HomekitNotificationAggregator notificationAggregator = new HomekitNotificationAggregator(scheduler);
+
     HomekitChangeListener(ItemRegistry itemRegistry, HomekitSettings settings, MetadataRegistry metadataRegistry,
             Storage<Object> storage, int instance) {
         this.itemRegistry = itemRegistry;
@@ -99,6 +104,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.instance = instance;
         this.applyUpdatesDebouncer = new Debouncer("update-homekit-devices-" + instance, scheduler,
                 Duration.ofMillis(1000), Clock.systemUTC(), this::applyUpdates);
+        updater.setNotificationAggregator(notificationAggregator);
         metadataChangeListener = new RegistryChangeListener<>() {
             @Override
             public void added(final Metadata metadata) {
@@ -142,15 +148,12 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         itemRegistry.addRegistryChangeListener(this);
         metadataRegistry.addRegistryChangeListener(metadataChangeListener);
         initialiseRevision();
-        boolean changed = false;
+        List<String> itemNames = new ArrayList<>();
         for (var i : itemRegistry.getItems()) {
-            String oldValue = knownAccessories.get(i.getName());
             createRootAccessories(i);
-            if (accessoryChanged(i.getName(), oldValue)) {
-                logger.debug("Accessory {} changed:\n{}\n{}", i.getName(), oldValue, knownAccessories.get(i.getName()));
-                changed = true;
-            }
+            itemNames.add(i.getName());
         }
+        boolean changed = updateKnownAccessories(itemNames);
         // order of this conditional is important - checkMissingAccessories has side effects that need to always happen
         if (checkMissingAccessories() || changed) {
             makeNewConfigurationRevision();
@@ -290,16 +293,12 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         }
 
         try {
-            boolean changed = false;
             for (final String name : pendingUpdates) {
-                String oldValue = knownAccessories.get(name);
                 accessoryRegistry.remove(name);
                 logger.trace(" Add items {}", name);
                 getItemOptional(name).ifPresent(this::createRootAccessories);
-                if (accessoryChanged(name, oldValue)) {
-                    changed = true;
-                }
             }
+            boolean changed = updateKnownAccessories(pendingUpdates);
             pendingUpdates.clear();
             if (checkMissingAccessories() || changed) {
                 makeNewConfigurationRevision();
@@ -312,13 +311,29 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         }
     }
 
-    private boolean accessoryChanged(String name, @Nullable String oldValue) {
-        String newValue = knownAccessories.get(name);
-        if (oldValue == null && newValue == null) {
-            return false;
+    /**
+     * Compares the structure of the given accessories with the structure known to HomeKit controllers, and records
+     * the changed ones. Accessories that no longer exist are left to {@link #checkMissingAccessories()}.
+     *
+     * @param itemNames names of the items whose accessories have been (re-)created
+     * @return true if the structure of any of the accessories changed
+     */
+    private boolean updateKnownAccessories(Collection<String> itemNames) {
+        int changedCount = 0;
+        for (String name : itemNames) {
+            final @Nullable String newValue = accessoryRegistry.getStructure(name);
+            if (newValue == null) {
+                continue;
+            }
+            final @Nullable String oldValue = knownAccessories.get(name);
+            if (!HomekitAccessoryRegistry.isSameStructure(oldValue, newValue)) {
+                logger.debug("Accessory {} changed:\n{}\n{}", name, oldValue, newValue);
+                knownAccessories.put(name, newValue);
+                changedCount++;
+            }
         }
-        return oldValue == null && newValue != null || oldValue != null && newValue == null
-                || !oldValue.equals(newValue);
+        logger.trace("{} of {} updated accessories changed their structure", changedCount, itemNames.size());
+        return changedCount > 0;
     }
 
     @Override
@@ -337,10 +352,12 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public synchronized void setBridge(HomekitRoot bridge) {
         accessoryRegistry.setBridge(bridge);
+        notificationAggregator.setBridge(bridge);
     }
 
     public void setUpdater(HomekitAccessoryUpdater updater) {
         this.updater = updater;
+        updater.setNotificationAggregator(notificationAggregator);
     }
 
     public void updateSettings(HomekitSettings settings) {
@@ -356,6 +373,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.itemRegistry.removeRegistryChangeListener(this);
         this.metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
         applyUpdatesDebouncer.stop();
+        notificationAggregator.stop();
+        notificationAggregator.setBridge(null);
         accessoryRegistry.unsetBridge();
     }
 
@@ -495,8 +514,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                             logger.warn("Cannot create additional accessory {}", additionalTaggedItem);
                         }
                     });
-            knownAccessories.put(taggedItem.getName(), accessory.toJson());
-            accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory);
+            accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory, accessory.toJson());
         } catch (HomekitException e) {
             logger.warn("Cannot create accessory {}", taggedItem);
         }
@@ -535,7 +553,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                 if (settings.useDummyAccessories) {
                     logger.debug("Creating dummy accessory for missing item {}.", accessory.getKey());
                     accessoryRegistry.addRootAccessory(accessory.getKey(),
-                            new DummyHomekitAccessory(accessory.getKey(), accessory.getValue()));
+                            new DummyHomekitAccessory(accessory.getKey(), accessory.getValue()), accessory.getValue());
                 } else {
                     toRemove.add(accessory.getKey());
                 }
@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
+import io.github.hapjava.server.impl.HomekitRoot;
+
+/**
+ * Collects characteristic change notifications for a short time window and passes them to HomeKit in one batch.
+ *
+ * While a batch is open, HAP-Java queues the notifications per connection and sends them as a single event message
+ * to each connected controller when the batch is completed. Without batching, a group of lights switched at once
+ * results in a separate event message per light and characteristic.
+ *
+ * Changes are tracked per item: repeated changes of the same characteristic within the window result in a single
+ * notification.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class HomekitNotificationAggregator {
+    private static final Duration WINDOW = Duration.ofMillis(50);
+
+    private final Logger logger = LoggerFactory.getLogger(HomekitNotificationAggregator.class);
+    private final ScheduledExecutorService scheduler;
+
+    private Map<String, Set<HomekitCharacteristicChangeCallback>> dirty = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private volatile @Nullable HomekitRoot bridge;
+
+    private final AtomicLong changes = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong notificationsSent = new AtomicLong();
+    private final AtomicLong batchesSent = new AtomicLong();
+
+    public HomekitNotificationAggregator(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    public void setBridge(@Nullable HomekitRoot bridge) {
+        this.bridge = bridge;
+    }
+
+    /**
+     * Registers the change of a characteristic. The callback is called with the next batch.
+     *
+     * @param itemName name of the item backing the characteristic
+     * @param callback the callback of the characteristic subscription
+     */
+    public synchronized void changed(String itemName, HomekitCharacteristicChangeCallback callback) {
+        changes.incrementAndGet();
+        if (!dirty.computeIfAbsent(itemName, name -> new LinkedHashSet<>()).add(callback)) {
+            coalesced.incrementAndGet();
+        }
+        if (flushJob == null) {
+            flushJob = scheduler.schedule(this::flush, WINDOW.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sends all pending notifications in one batch.
+     */
+    public void flush() {
+        Map<String, Set<HomekitCharacteristicChangeCallback>> pending;
+        synchronized (this) {
+            pending = dirty;
+            dirty = new LinkedHashMap<>();
+            flushJob = null;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        @Nullable
+        HomekitRoot bridge = this.bridge;
+        if (bridge != null) {
+            bridge.batchUpdate();
+        }
+        int sent = 0;
+        try {
+            for (Set<HomekitCharacteristicChangeCallback> callbacks : pending.values()) {
+                for (HomekitCharacteristicChangeCallback callback : callbacks) {
+                    try {
+                        callback.changed();
+                        sent++;
+                    } catch (RuntimeException e) {
+                        logger.warn("Notifying HomeKit about a change failed: {}", e.getMessage());
+                    }
+                }
+            }
+        } finally {
+            if (bridge != null) {
+                bridge.completeUpdateBatch();
+            }
+        }
+        notificationsSent.addAndGet(sent);
+        batchesSent.incrementAndGet();
+        logger.trace("Sent {} characteristic changes of {} items in one batch", sent, pending.size());
+    }
+
+    /**
+     * Cancels the pending batch without sending it.
+     */
+    public synchronized void stop() {
+        @Nullable
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        dirty.clear();
+        logger.debug("{}", this);
+    }
+
+    /**
+     * Returns the number of characteristic changes received.
+     */
+    public long getChangeCount() {
+        return changes.get();
+    }
+
+    /**
+     * Returns the number of characteristic changes passed to HomeKit.
+     */
+    public long getNotificationCount() {
+        return notificationsSent.get();
+    }
+
+    /**
+     * Returns the number of changes which were merged into a pending notification of the same characteristic.
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * Returns the number of batches sent, each resulting in at most one event message per connection.
+     */
+    public long getBatchCount() {
+        return batchesSent.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HomeKit notifications: %d changes, %d sent in %d batches, %d coalesced",
+                getChangeCount(), getNotificationCount(), getBatchCount(), getCoalescedCount());
+    }
+}
@@ -31,10 +31,13 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
+import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.Metadata;
 import org.openhab.core.items.MetadataKey;
 import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.items.events.GroupItemStateChangedEvent;
+import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.net.CidrAddress;
 import org.openhab.core.net.NetUtil;
 import org.openhab.core.net.NetworkAddressService;
@@ -64,6 +67,8 @@ import com.google.gson.GsonBuilder;
  * This component sets up the hue data store and gets the service configuration.
  * It also determines the address for the upnp service by the given configuration.
  * <p>
+ * Also keeps the serialized lights up to date with the item states, see {@link LightsSnapshotCache}.
+ * <p>
  * Also manages the pairing timeout. The service is restarted after a pairing timeout, due to the ConfigAdmin
  * configuration change.
  * <p>
@@ -72,10 +77,11 @@ import com.google.gson.GsonBuilder;
  *
  * @author David Graeff - Initial contribution
  */
-@Component(immediate = false, service = ConfigStore.class, configurationPid = HueEmulationService.CONFIG_PID)
+@Component(immediate = false, service = { ConfigStore.class,
+        EventSubscriber.class }, configurationPid = HueEmulationService.CONFIG_PID)
 @ConfigurableService(category = "io", label = "Hue Emulation", description_uri = "io:hueemulation")
 @NonNullByDefault
-public class ConfigStore {
+public class ConfigStore implements EventSubscriber {
 
     public static final String METAKEY = "HUEEMU";
     public static final String EVENT_ADDRESS_CHANGED = "HUE_EMU_CONFIG_ADDR_CHANGED";
@@ -99,6 +105,11 @@ public class ConfigStore {
             .registerTypeAdapter(HueSuccessResponseStateChanged.class, new HueSuccessResponseStateChanged.Serializer())
             .registerTypeAdapter(HueGroupEntry.class, new HueGroupEntry.Serializer(this)).create();
 
+    /**
+     * The serialized lights, to be invalidated by all components changing the lights
+     */
+    public final LightsSnapshotCache lightsSnapshot = new LightsSnapshotCache(this);
+
     @Reference
     protected @NonNullByDefault({}) ConfigurationAdmin configAdmin;
 
@@ -420,4 +431,16 @@ public class ConfigStore {
     public Set<InetAddress> getDiscoveryIps() {
         return discoveryIps;
     }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return Set.of(ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE);
+    }
+
+    @Override
+    public void receive(org.openhab.core.events.Event event) {
+        if (event instanceof ItemStateChangedEvent stateChangedEvent) {
+            lightsSnapshot.itemStateChanged(stateChangedEvent.getItemName());
+        }
+    }
 }
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
+import org.openhab.io.hueemulation.internal.dto.HueDataStore;
+import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
+import org.openhab.io.hueemulation.internal.dto.changerequest.HueStateChange;
+
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+
+/**
+ * Keeps the serialized lights of the hue data store. Hue clients like Alexa or the Harmony hub poll the lights very
+ * often, and serializing every light on each poll is expensive with many exposed items.
+ * <p>
+ * The JSON of each light is kept as a fragment and only serialized again if the item state, the label or the last
+ * command of the light changed. The lights response is assembled from the fragments and kept until it is invalidated
+ * by an item state change or a change of the exposed lights. Each distinct response gets a new version, which is
+ * used as entity tag.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class LightsSnapshotCache {
+    /**
+     * The serialized lights and their entity tag.
+     */
+    public static class Snapshot {
+        public final String json;
+        public final String etag;
+
+        Snapshot(String json, String etag) {
+            this.json = json;
+            this.etag = etag;
+        }
+    }
+
+    private static class Fragment {
+        private final HueLightEntry light;
+        private final GenericItem item;
+        private final State state;
+        private final @Nullable String label;
+        private final @Nullable Command lastCommand;
+        private final @Nullable HueStateChange lastHueChange;
+        private final String json;
+
+        Fragment(HueLightEntry light, Gson gson) {
+            this.light = light;
+            this.item = light.item;
+            this.state = item.getState();
+            this.label = item.getLabel();
+            this.lastCommand = light.lastCommand;
+            this.lastHueChange = light.lastHueChange;
+            this.json = gson.toJson(light);
+        }
+
+        boolean isValidFor(HueLightEntry light) {
+            return this.light == light && item == light.item && lastCommand == light.lastCommand
+                    && lastHueChange == light.lastHueChange && state.equals(item.getState())
+                    && Objects.equals(label, item.getLabel());
+        }
+    }
+
+    private final ConfigStore cs;
+    private final Gson gsonWithoutLights;
+    /** Distinguishes the entity tags of different runs */
+    private final String etagPrefix = Long.toHexString(System.currentTimeMillis());
+    private final Set<String> itemNames = ConcurrentHashMap.newKeySet();
+    private Map<String, Fragment> fragments = new HashMap<>();
+    private @Nullable Snapshot snapshot;
+    private long version;
+    private volatile boolean dirty = true;
+
+    LightsSnapshotCache(ConfigStore cs) {
+        this.cs = cs;
+        this.gsonWithoutLights = cs.gson.newBuilder().addSerializationExclusionStrategy(new ExclusionStrategy() {
+            @Override
+            public boolean shouldSkipField(@Nullable FieldAttributes f) {
+                return f != null && f.getDeclaringClass() == HueDataStore.class && "lights".equals(f.getName());
+            }
+
+            @Override
+            public boolean shouldSkipClass(@Nullable Class<?> clazz) {
+                return false;
+            }
+        }).create();
+    }
+
+    /**
+     * Invalidates the snapshot, e.g. because lights have been added, removed or commanded.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Invalidates the snapshot if the item is exposed as light.
+     *
+     * @param itemName name of the item whose state changed
+     */
+    public void itemStateChanged(String itemName) {
+        if (itemNames.contains(itemName)) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Returns the serialized lights of the hue data store, equal to serializing the lights map with
+     * {@link ConfigStore#gson}.
+     */
+    public synchronized Snapshot getLights() {
+        Snapshot snapshot = this.snapshot;
+        if (!dirty && snapshot != null) {
+            return snapshot;
+        }
+        // changes while assembling invalidate the new snapshot again
+        dirty = false;
+
+        Map<String, Fragment> newFragments = new HashMap<>();
+        StringBuilder json = new StringBuilder("{");
+        for (Entry<String, HueLightEntry> entry : cs.ds.lights.entrySet()) {
+            HueLightEntry light = entry.getValue();
+            Fragment fragment = fragments.get(entry.getKey());
+            if (fragment == null || !fragment.isValidFor(light)) {
+                fragment = new Fragment(light, cs.gson);
+            }
+            newFragments.put(entry.getKey(), fragment);
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(cs.gson.toJson(entry.getKey())).append(':').append(fragment.json);
+        }
+        json.append('}');
+
+        fragments = newFragments;
+        itemNames.clear();
+        newFragments.values().forEach(fragment -> itemNames.add(fragment.item.getName()));
+
+        String newJson = json.toString();
+        if (snapshot == null || !snapshot.json.equals(newJson)) {
+            version++;
+            snapshot = new Snapshot(newJson, etagPrefix + "-" + version);
+            this.snapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the serialized hue data store, using the cached lights.
+     */
+    public String getFullState() {
+        String lights = getLights().json;
+        String others = gsonWithoutLights.toJson(cs.ds);
+        if ("{}".equals(others)) {
+            return "{\"lights\":" + lights + "}";
+        }
+        return "{\"lights\":" + lights + "," + others.substring(1);
+    }
+}
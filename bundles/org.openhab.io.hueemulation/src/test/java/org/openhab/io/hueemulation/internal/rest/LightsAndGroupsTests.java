@@ -22,6 +22,7 @@ import java.io.IOException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.http.HttpHeader;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -327,6 +328,31 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void allLightsNotModified() throws Exception {
+        ContentResponse response = commonSetup.sendGet("/testuser/lights");
+        assertEquals(200, response.getStatus());
+        String etag = response.getHeaders().get(HttpHeader.ETAG);
+        assertThat(etag, is(notNullValue()));
+        assertThat(response.getContentAsString(), is(cs.gson.toJson(cs.ds.lights)));
+
+        response = sendGetIfNoneMatch("/testuser/lights", etag);
+        assertEquals(304, response.getStatus());
+
+        ((SwitchItem) cs.ds.lights.get("1").item).setState(OnOffType.ON);
+        cs.lightsSnapshot.itemStateChanged("switch");
+
+        response = sendGetIfNoneMatch("/testuser/lights", etag);
+        assertEquals(200, response.getStatus());
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), is(not(etag)));
+        assertThat(response.getContentAsString(), is(cs.gson.toJson(cs.ds.lights)));
+    }
+
+    private ContentResponse sendGetIfNoneMatch(String path, String etag) throws Exception {
+        return commonSetup.client.newRequest(commonSetup.basePath + path).header(HttpHeader.IF_NONE_MATCH, etag)
+                .send();
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.events.ItemAddedEvent;
+import org.openhab.core.items.events.ItemRemovedEvent;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.openhab.core.items.events.ItemUpdatedEvent;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The {@link ItemStateMetrics} class provides the numeric states of all items as gauges.
+ *
+ * The gauges are updated from item state changed events and hold the last value, so a scrape only reads the values
+ * and does not need to look up the items in the item registry. Gauges are only provided for items accepting numeric
+ * states, a state without a numeric value (e.g. UNDEF) is reported as NaN. Gauges of added and removed items follow
+ * the item registry events.
+ *
+ * @author Agent - Initial contribution
+ */
+@Component(configurationPid = "org.openhab.metrics", service = EventSubscriber.class)
+@NonNullByDefault
+public class ItemStateMetrics implements EventSubscriber {
+    public static final String METRIC_NAME = "openhab.item.state";
+    public static final String ITEM_TAG = "item";
+
+    private final Logger logger = LoggerFactory.getLogger(ItemStateMetrics.class);
+    private final ItemRegistry itemRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ItemGauge> gauges = new ConcurrentHashMap<>();
+    private volatile boolean enabled = false;
+
+    @Activate
+    public ItemStateMetrics(final @Reference ItemRegistry itemRegistry,
+            final @Reference MeterRegistryProvider meterRegistryProvider,
+            Map<@Nullable String, @Nullable Object> configuration) {
+        this.itemRegistry = itemRegistry;
+        this.meterRegistry = meterRegistryProvider.getOHMeterRegistry();
+        modified(configuration);
+    }
+
+    @Modified
+    protected synchronized void modified(Map<@Nullable String, @Nullable Object> configuration) {
+        boolean enable = new Configuration(configuration).as(MetricsConfiguration.class).itemStateMetricsEnabled;
+        if (enable && !enabled) {
+            enabled = true;
+            // the registry is only walked once, afterwards the gauges follow the events
+            itemRegistry.getItems().forEach(this::add);
+            logger.debug("Item state metrics enabled for {} items.", gauges.size());
+        } else if (!enable && enabled) {
+            enabled = false;
+            removeAll();
+            logger.debug("Item state metrics disabled.");
+        }
+    }
+
+    @Deactivate
+    protected synchronized void deactivate() {
+        enabled = false;
+        removeAll();
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return Set.of(ItemStateChangedEvent.TYPE, ItemAddedEvent.TYPE, ItemUpdatedEvent.TYPE, ItemRemovedEvent.TYPE);
+    }
+
+    @Override
+    public void receive(Event event) {
+        if (!enabled) {
+            return;
+        }
+        if (event instanceof ItemStateChangedEvent stateChangedEvent) {
+            @Nullable
+            ItemGauge gauge = gauges.get(stateChangedEvent.getItemName());
+            if (gauge != null) {
+                gauge.value = toDouble(stateChangedEvent.getItemState());
+            }
+        } else if (event instanceof ItemAddedEvent addedEvent) {
+            update(addedEvent.getItem().name);
+        } else if (event instanceof ItemUpdatedEvent updatedEvent) {
+            // the type of the item may have changed
+            update(updatedEvent.getItem().name);
+        } else if (event instanceof ItemRemovedEvent removedEvent) {
+            remove(removedEvent.getItem().name);
+        }
+    }
+
+    private void update(String itemName) {
+        @Nullable
+        Item item = itemRegistry.get(itemName);
+        if (item != null && isNumeric(item)) {
+            add(item);
+        } else {
+            remove(itemName);
+        }
+    }
+
+    private synchronized void add(Item item) {
+        // checked again, the gauges may have been disabled while the event was delivered
+        if (enabled && isNumeric(item)) {
+            double value = toDouble(item.getState());
+            gauges.computeIfAbsent(item.getName(), name -> new ItemGauge(name, value)).value = value;
+        }
+    }
+
+    private synchronized void remove(String itemName) {
+        @Nullable
+        ItemGauge gauge = gauges.remove(itemName);
+        if (gauge != null) {
+            meterRegistry.remove(gauge.gauge);
+        }
+    }
+
+    private void removeAll() {
+        gauges.values().forEach(gauge -> meterRegistry.remove(gauge.gauge));
+        gauges.clear();
+    }
+
+    private static boolean isNumeric(Item item) {
+        return item.getAcceptedDataTypes().stream().anyMatch(type -> DecimalType.class.isAssignableFrom(type)
+                || type == QuantityType.class || type == OnOffType.class || type == OpenClosedType.class);
+    }
+
+    private static double toDouble(State state) {
+        @Nullable
+        DecimalType decimal = state.as(DecimalType.class);
+        return decimal == null ? Double.NaN : decimal.doubleValue();
+    }
+
+    private class ItemGauge {
+        private final Gauge gauge;
+        private volatile double value;
+
+        ItemGauge(String itemName, double value) {
+            this.value = value;
+            // the gauge only holds a weak reference to this object, the strong reference is kept in the gauges map
+            gauge = Gauge.builder(METRIC_NAME, this, g -> g.value).tags(Tags.of(ITEM_TAG, itemName))
+                    .description("Numeric state of the item").register(meterRegistry);
+        }
+    }
+}
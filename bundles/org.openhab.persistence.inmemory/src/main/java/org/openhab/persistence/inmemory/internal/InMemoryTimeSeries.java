@@ -0,0 +1,446 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link InMemoryTimeSeries} stores the persisted states of a single item in a columnar ring buffer.
+ *
+ * Timestamps are kept as epoch milliseconds in a <code>long[]</code>, sorted in ascending order. Plain numbers and
+ * quantities are kept in a <code>double[]</code> (as long as the conversion is lossless), units and enum states
+ * (like <code>ON</code>/<code>OFF</code>) are referenced by a short code into a small dictionary. All other states
+ * are kept as objects in an array that is only allocated when it is needed. The time zone of each timestamp is
+ * referenced by a short code into a separate dictionary of zones.
+ *
+ * Readers use optimistic reads and therefore do not block the writer.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class InMemoryTimeSeries {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int MAX_DICTIONARY_SIZE = 256;
+
+    private static final short DECIMAL_CODE = 0;
+    private static final short OBJECT_CODE = -1;
+
+    public record Entry(long timestamp, ZoneId zone, State state) {
+    }
+
+    private final StampedLock lock = new StampedLock();
+
+    private int maxCapacity;
+    private long[] timestamps = new long[0];
+    private double[] values = new double[0];
+    private short[] codes = new short[0];
+    private short[] zoneCodes = new short[0];
+    private @Nullable State @Nullable [] others;
+    private Object[] dictionary = new Object[0];
+    private ZoneId[] zones = new ZoneId[0];
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * @param maxEntries the maximum number of entries, 0 for no limit
+     */
+    public InMemoryTimeSeries(long maxEntries) {
+        this.maxCapacity = toCapacity(maxEntries);
+    }
+
+    /**
+     * Adds a state. If the maximum number of entries is reached, the oldest entry is removed. An existing entry with
+     * the same timestamp is replaced.
+     *
+     * @param timestamp the timestamp in epoch milliseconds
+     * @param zone the time zone of the timestamp
+     * @param state the state
+     */
+    public void add(long timestamp, ZoneId zone, State state) {
+        long stamp = lock.writeLock();
+        try {
+            int pos = lowerBound(timestamps, head, size, timestamp);
+            if (pos < size && timestamps[physical(pos)] == timestamp) {
+                encode(physical(pos), state);
+                zoneCodes[physical(pos)] = zoneCode(zone);
+                return;
+            }
+            if (size >= maxCapacity) {
+                if (pos == 0) {
+                    // older than everything we keep
+                    return;
+                }
+                clear(head);
+                head = physical(1);
+                size--;
+                pos--;
+            } else if (size == timestamps.length) {
+                resize((int) Math.min(Math.max(INITIAL_CAPACITY, 2L * timestamps.length), maxCapacity));
+            }
+            for (int i = size; i > pos; i--) {
+                move(physical(i - 1), physical(i));
+            }
+            int p = physical(pos);
+            timestamps[p] = timestamp;
+            encode(p, state);
+            zoneCodes[p] = zoneCode(zone);
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Changes the maximum number of entries, the oldest entries are removed if necessary.
+     *
+     * @param maxEntries the maximum number of entries, 0 for no limit
+     */
+    public void setMaxEntries(long maxEntries) {
+        long stamp = lock.writeLock();
+        try {
+            maxCapacity = toCapacity(maxEntries);
+            if (size > maxCapacity) {
+                int drop = size - maxCapacity;
+                for (int i = 0; i < drop; i++) {
+                    clear(physical(i));
+                }
+                head = physical(drop);
+                size = maxCapacity;
+            }
+            if (timestamps.length > maxCapacity) {
+                resize(maxCapacity);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns all entries within the given time range in ascending order.
+     *
+     * @param begin the first timestamp to include in epoch milliseconds
+     * @param end the last timestamp to include in epoch milliseconds
+     * @return the matching entries
+     */
+    public List<Entry> query(long begin, long end) {
+        @Nullable
+        Snapshot snapshot;
+        long stamp = lock.tryOptimisticRead();
+        try {
+            snapshot = copyRange(begin, end);
+        } catch (RuntimeException e) {
+            // inconsistent state caused by a concurrent write, retried below
+            snapshot = null;
+        }
+        if (snapshot == null || !lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                snapshot = copyRange(begin, end);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return snapshot.toEntries();
+    }
+
+    /**
+     * Removes all entries within the given time range which match the given predicate.
+     *
+     * @param begin the first timestamp to include in epoch milliseconds
+     * @param end the last timestamp to include in epoch milliseconds
+     * @param filter the predicate for the state
+     * @return the number of removed entries
+     */
+    public int remove(long begin, long end, Predicate<State> filter) {
+        long stamp = lock.writeLock();
+        try {
+            int from = lowerBound(timestamps, head, size, begin);
+            int to = upperBound(timestamps, head, size, end);
+            @Nullable
+            State @Nullable [] others = this.others;
+            int target = from;
+            for (int i = from; i < size; i++) {
+                int p = physical(i);
+                if (i < to && filter.test(decode(values[p], codes[p], others == null ? null : others[p],
+                        dictionary))) {
+                    continue;
+                }
+                if (target != i) {
+                    move(p, physical(target));
+                }
+                target++;
+            }
+            for (int i = target; i < size; i++) {
+                clear(physical(i));
+            }
+            int removed = size - target;
+            size = target;
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return the timestamps of the oldest and the newest entry, or null if the series is empty
+     */
+    public long @Nullable [] getTimeRange() {
+        long stamp = lock.readLock();
+        try {
+            return size == 0 ? null : new long[] { timestamps[head], timestamps[physical(size - 1)] };
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Snapshot copyRange(long begin, long end) {
+        // local copies, a concurrent writer only replaces the arrays but never shrinks them in place
+        long[] timestamps = this.timestamps;
+        double[] values = this.values;
+        short[] codes = this.codes;
+        short[] zoneCodes = this.zoneCodes;
+        @Nullable
+        State @Nullable [] others = this.others;
+        Object[] dictionary = this.dictionary;
+        ZoneId[] zones = this.zones;
+        int head = this.head;
+        int size = this.size;
+        if (size > timestamps.length || size > values.length || size > codes.length || size > zoneCodes.length) {
+            throw new IllegalStateException("Concurrent modification");
+        }
+
+        int from = lowerBound(timestamps, head, size, begin);
+        int to = upperBound(timestamps, head, size, end);
+        int count = Math.max(0, to - from);
+        @Nullable
+        State @Nullable [] copiedOthers = others == null ? null : new State[count];
+        Snapshot snapshot = new Snapshot(new long[count], new double[count], new short[count], new short[count],
+                copiedOthers, dictionary, zones);
+        int capacity = timestamps.length;
+        for (int i = 0; i < count; i++) {
+            int p = (head + from + i) % capacity;
+            snapshot.timestamps[i] = timestamps[p];
+            snapshot.values[i] = values[p];
+            snapshot.codes[i] = codes[p];
+            snapshot.zoneCodes[i] = zoneCodes[p];
+            if (others != null && copiedOthers != null) {
+                copiedOthers[i] = others[p];
+            }
+        }
+        return snapshot;
+    }
+
+    private void encode(int p, State state) {
+        short code = OBJECT_CODE;
+        if (state.getClass() == DecimalType.class) {
+            BigDecimal value = ((DecimalType) state).toBigDecimal();
+            if (isLossless(value)) {
+                values[p] = value.doubleValue();
+                code = DECIMAL_CODE;
+            }
+        } else if (state instanceof QuantityType<?> quantity && state.getClass() == QuantityType.class) {
+            BigDecimal value = quantity.toBigDecimal();
+            if (isLossless(value)) {
+                values[p] = value.doubleValue();
+                code = dictionaryCode(quantity.getUnit());
+            }
+        } else if (state instanceof Enum) {
+            values[p] = 0;
+            code = dictionaryCode(state);
+        }
+
+        codes[p] = code;
+        @Nullable
+        State @Nullable [] others = this.others;
+        if (code == OBJECT_CODE) {
+            if (others == null) {
+                others = new State[timestamps.length];
+                this.others = others;
+            }
+            others[p] = state;
+        } else if (others != null) {
+            others[p] = null;
+        }
+    }
+
+    private static State decode(double value, short code, @Nullable State other, Object[] dictionary) {
+        if (code == DECIMAL_CODE) {
+            return new DecimalType(toBigDecimal(value));
+        } else if (code == OBJECT_CODE) {
+            return Objects.requireNonNull(other);
+        }
+        Object entry = dictionary[code - 1];
+        if (entry instanceof Unit<?> unit) {
+            return new QuantityType<>(toBigDecimal(value), unit);
+        }
+        return (State) entry;
+    }
+
+    private static boolean isLossless(BigDecimal value) {
+        return toBigDecimal(value.doubleValue()).equals(value);
+    }
+
+    private static BigDecimal toBigDecimal(double value) {
+        BigDecimal result = BigDecimal.valueOf(value).stripTrailingZeros();
+        return result.scale() < 0 ? result.setScale(0) : result;
+    }
+
+    private short dictionaryCode(Object key) {
+        for (int i = 0; i < dictionary.length; i++) {
+            if (dictionary[i].equals(key)) {
+                return (short) (i + 1);
+            }
+        }
+        if (dictionary.length >= MAX_DICTIONARY_SIZE) {
+            return OBJECT_CODE;
+        }
+        // copy on write, so that snapshots taken by readers stay valid
+        Object[] newDictionary = Arrays.copyOf(dictionary, dictionary.length + 1);
+        newDictionary[dictionary.length] = key;
+        dictionary = newDictionary;
+        return (short) dictionary.length;
+    }
+
+    private short zoneCode(ZoneId zone) {
+        for (int i = 0; i < zones.length; i++) {
+            if (zones[i].equals(zone)) {
+                return (short) i;
+            }
+        }
+        // copy on write like the dictionary, an item rarely sees more than one zone
+        ZoneId[] newZones = Arrays.copyOf(zones, zones.length + 1);
+        newZones[zones.length] = zone;
+        zones = newZones;
+        return (short) (zones.length - 1);
+    }
+
+    private void resize(int capacity) {
+        long[] newTimestamps = new long[capacity];
+        double[] newValues = new double[capacity];
+        short[] newCodes = new short[capacity];
+        short[] newZoneCodes = new short[capacity];
+        @Nullable
+        State @Nullable [] others = this.others;
+        @Nullable
+        State @Nullable [] newOthers = others == null ? null : new State[capacity];
+        for (int i = 0; i < size; i++) {
+            int p = physical(i);
+            newTimestamps[i] = timestamps[p];
+            newValues[i] = values[p];
+            newCodes[i] = codes[p];
+            newZoneCodes[i] = zoneCodes[p];
+            if (others != null && newOthers != null) {
+                newOthers[i] = others[p];
+            }
+        }
+        timestamps = newTimestamps;
+        values = newValues;
+        codes = newCodes;
+        zoneCodes = newZoneCodes;
+        this.others = newOthers;
+        head = 0;
+    }
+
+    private void move(int from, int to) {
+        timestamps[to] = timestamps[from];
+        values[to] = values[from];
+        codes[to] = codes[from];
+        zoneCodes[to] = zoneCodes[from];
+        @Nullable
+        State @Nullable [] others = this.others;
+        if (others != null) {
+            others[to] = others[from];
+        }
+    }
+
+    private void clear(int p) {
+        @Nullable
+        State @Nullable [] others = this.others;
+        if (others != null) {
+            others[p] = null;
+        }
+    }
+
+    private int physical(int index) {
+        int p = head + index;
+        return p >= timestamps.length ? p - timestamps.length : p;
+    }
+
+    /**
+     * @return the logical index of the first entry with a timestamp greater than or equal to the given one
+     */
+    private static int lowerBound(long[] timestamps, int head, int size, long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[(head + mid) % timestamps.length] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the logical index of the first entry with a timestamp greater than the given one
+     */
+    private static int upperBound(long[] timestamps, int head, int size, long timestamp) {
+        return timestamp == Long.MAX_VALUE ? size : lowerBound(timestamps, head, size, timestamp + 1);
+    }
+
+    private static int toCapacity(long maxEntries) {
+        return maxEntries <= 0 ? MAX_CAPACITY : (int) Math.min(maxEntries, MAX_CAPACITY);
+    }
+
+    private record Snapshot(long[] timestamps, double[] values, short[] codes, short[] zoneCodes,
+            @Nullable State @Nullable [] others, Object[] dictionary, ZoneId[] zones) {
+
+        private List<Entry> toEntries() {
+            List<Entry> entries = new ArrayList<>(timestamps.length);
+            @Nullable
+            State @Nullable [] others = this.others;
+            for (int i = 0; i < timestamps.length; i++) {
+                entries.add(new Entry(timestamps[i], zones[zoneCodes[i]],
+                        decode(values[i], codes[i], others == null ? null : others[i], dictionary)));
+            }
+            return entries;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -34,7 +35,9 @@ import org.mockito.quality.Strictness;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
@@ -275,4 +278,95 @@ public class InMemoryPersistenceTests {
 
         // begin date is before first date is already covered by case #1
     }
+
+    @Test
+    public void mixedStatesAreRestored() {
+        List<State> states = List.of(new DecimalType(1), new DecimalType("0.1"), new DecimalType("1.50"),
+                new DecimalType(100), OnOffType.ON, new QuantityType<>("12.5 kWh"), new QuantityType<>("3 W"),
+                new StringType("value"), OnOffType.OFF, new PercentType(50));
+
+        ZonedDateTime start = ZonedDateTime.of(2022, 05, 31, 10, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < states.size(); i++) {
+            service.store(item, start.plusMinutes(i), states.get(i));
+        }
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<State> resultSet = new ArrayList<>();
+        List<String> stringSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> {
+            resultSet.add(h.getState());
+            stringSet.add(h.getState().toString());
+        });
+
+        assertThat(resultSet, is(states));
+        assertThat(stringSet, is(states.stream().map(State::toString).toList()));
+    }
+
+    @Test
+    public void timeZoneOfTimestampIsKept() {
+        ZonedDateTime berlin = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.of("Europe/Berlin"));
+        ZonedDateTime tokyo = ZonedDateTime.of(2020, 12, 1, 22, 0, 0, 0, ZoneId.of("Asia/Tokyo"));
+        service.store(item, berlin, new DecimalType(1));
+        service.store(item, tokyo, new DecimalType(2));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<ZonedDateTime> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getTimestamp()));
+
+        assertThat(resultSet, contains(berlin, tokyo));
+    }
+
+    @Test
+    public void outOfOrderStoreIsSorted() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start.plusHours(2), new DecimalType(3));
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(1), new DecimalType(2));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(1, 2, 3));
+    }
+
+    @Test
+    public void maxEntriesRemovesOldestEntries() {
+        service.activate(Map.of("maxEntries", 3L));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 5; i++) {
+            service.store(item, start.plusHours(i), new DecimalType(i));
+        }
+        // older than all stored entries, dropped immediately
+        service.store(item, start.minusHours(1), new DecimalType(-1));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(2, 3, 4));
+
+        service.modified(Map.of("maxEntries", 2L));
+
+        resultSet.clear();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(3, 4));
+    }
+
+    @Test
+    public void stateFilterIsApplied() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 5; i++) {
+            service.store(item, start.plusHours(i), new DecimalType(i));
+        }
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        filterCriteria.setOperator(FilterCriteria.Operator.GTE);
+        filterCriteria.setState(new DecimalType(3));
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(3, 4));
+    }
 }
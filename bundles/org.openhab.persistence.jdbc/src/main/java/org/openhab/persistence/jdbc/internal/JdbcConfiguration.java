@@ -65,12 +65,22 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    // write-behind batching, disabled with a batch size of 1
+    private int batchSize = 1;
+    private int batchFlushInterval = 1000;
+    private int batchMaxQueueSize = 10000;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
     public MovingAverage timeAverage50arr = new MovingAverage(50);
     public MovingAverage timeAverage100arr = new MovingAverage(100);
     public MovingAverage timeAverage200arr = new MovingAverage(200);
+    public MovingAverage flushTimeAverage50arr = new MovingAverage(50);
+    public MovingAverage flushQueueDepthAverage50arr = new MovingAverage(50);
+    public long flushCount = 0;
+    public long flushedValues = 0;
+    public long flushTimeMax = 0;
     public boolean enableLogTime = false;
 
     public JdbcConfiguration(Map<Object, Object> configuration) {
@@ -189,6 +199,24 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            batchSize = Math.max(1, Integer.parseInt(bs));
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String bf = (String) configuration.get("batchFlushInterval");
+        if (bf != null && !bf.isBlank() && isNumericPattern.matcher(bf).matches()) {
+            batchFlushInterval = Math.max(100, Integer.parseInt(bf));
+            logger.debug("JDBC::updateConfig: batchFlushInterval={}", batchFlushInterval);
+        }
+
+        String bq = (String) configuration.get("batchMaxQueueSize");
+        if (bq != null && !bq.isBlank() && isNumericPattern.matcher(bq).matches()) {
+            batchMaxQueueSize = Math.max(batchSize, Integer.parseInt(bq));
+            logger.debug("JDBC::updateConfig: batchMaxQueueSize={}", batchMaxQueueSize);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -394,6 +422,27 @@ public class JdbcConfiguration {
         return tableUseRealItemNames && tableCaseSensitiveItemNames;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Checks if values are collected in a write-behind buffer and stored in batches.
+     *
+     * @return true if batchSize is greater than 1.
+     */
+    public boolean isBatchingEnabled() {
+        return batchSize > 1;
+    }
+
+    public int getBatchFlushInterval() {
+        return batchFlushInterval;
+    }
+
+    public int getBatchMaxQueueSize() {
+        return batchMaxQueueSize;
+    }
+
     public int getTableIdDigitCount() {
         return tableIdDigitCount;
     }
@@ -13,6 +13,7 @@
 package org.openhab.persistence.jdbc.internal;
 
 import java.sql.SQLInvalidAuthorizationSpecException;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -34,6 +35,7 @@ import org.openhab.core.persistence.PersistenceItemInfo;
 import org.openhab.core.types.State;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
+import org.openhab.persistence.jdbc.internal.dto.ItemValueVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
@@ -225,6 +227,15 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    protected void storeItemValues(Item item, List<ItemValueVO> values) throws JdbcException {
+        logger.debug("JDBC::storeItemValues: item={} count={}", item, values.size());
+        String tableName = getTable(item);
+        long timerStart = System.currentTimeMillis();
+        conf.getDBDAO().doStoreItemValues(new ItemVO(tableName, null), values);
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
@@ -242,6 +253,18 @@ public class JdbcMapper {
         return result;
     }
 
+    protected List<HistoricItem> getHistItemAggregateQuery(FilterCriteria filter, AggregationFunction function,
+            Duration bucket, String table, Item item) throws JdbcSQLException {
+        logger.debug("JDBC::getHistItemAggregateQuery function='{}' bucket='{}' table='{}' itemName='{}'", function,
+                bucket, table, item.getName());
+        long timerStart = System.currentTimeMillis();
+        List<HistoricItem> result = conf.getDBDAO().doGetHistItemAggregateQuery(item, filter, function, bucket, table,
+                timeZoneProvider.getTimeZone());
+        logTime("getHistItemAggregateQuery", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return result;
+    }
+
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
@@ -509,4 +532,21 @@ public class JdbcMapper {
                     afterAccessMin, afterAccessMax, conf.time1000Statements, conf.timerCount);
         }
     }
+
+    protected void logFlush(int queueDepth, int flushedValues, long timerStart, long timerStop) {
+        int timerDiff = (int) (timerStop - timerStart);
+        conf.flushCount++;
+        conf.flushedValues += flushedValues;
+        if (timerDiff > conf.flushTimeMax) {
+            conf.flushTimeMax = timerDiff;
+        }
+        conf.flushTimeAverage50arr.add(timerDiff);
+        conf.flushQueueDepthAverage50arr.add(queueDepth);
+        if (conf.enableLogTime && logger.isInfoEnabled()) {
+            logger.info(
+                    "JDBC::logFlush:\n queueDepth          = {}\n flushTime           = {} ms\n flushTimeAverage50  = {} ms\n flushTimeMax        = {} ms\n queueDepthAverage50 = {}\n flushCount          = {}\n flushedValues       = {}\n",
+                    queueDepth, timerDiff, conf.flushTimeAverage50arr.getAverageInteger(), conf.flushTimeMax,
+                    conf.flushQueueDepthAverage50arr.getAverageInteger(), conf.flushCount, conf.flushedValues);
+        }
+    }
 }
@@ -12,17 +12,24 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -34,6 +41,7 @@ import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
@@ -45,6 +53,7 @@ import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
+import org.openhab.persistence.jdbc.internal.dto.ItemValueVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -70,6 +79,8 @@ import org.slf4j.LoggerFactory;
 @ConfigurableService(category = "persistence", label = "JDBC Persistence Service", description_uri = JdbcPersistenceServiceConstants.CONFIG_URI)
 public class JdbcPersistenceService extends JdbcMapper implements ModifiablePersistenceService {
 
+    private static final int QUERY_THREADS = 4;
+
     private final Logger logger = LoggerFactory.getLogger(JdbcPersistenceService.class);
 
     private final ItemRegistry itemRegistry;
@@ -77,6 +88,14 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private final ExecutorService queryExecutor = Executors.newFixedThreadPool(QUERY_THREADS,
+            new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID + "-query"));
+
+    private @Nullable JdbcWriteBuffer writeBuffer;
+    private @Nullable ScheduledFuture<?> flushJob;
+    private final AtomicBoolean flushPending = new AtomicBoolean(false);
+    private long reportedDropped = 0;
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -121,6 +140,8 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
         // closeConnection();
+        stopWriteBuffer();
+        queryExecutor.shutdownNow();
         initialized = false;
     }
 
@@ -137,24 +158,140 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState()));
+        scheduleStore(item, null, item.getState());
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
         // alias is not supported
-        scheduler.execute(() -> internalStore(item, null, item.getState()));
+        scheduleStore(item, null, item.getState());
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state));
+        scheduleStore(item, date, state);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
         // alias is not supported
-        scheduler.execute(() -> internalStore(item, null, item.getState()));
+        scheduleStore(item, null, item.getState());
+    }
+
+    private void scheduleStore(Item item, @Nullable ZonedDateTime date, State state) {
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer == null) {
+            scheduler.execute(() -> internalStore(item, date, state));
+            return;
+        }
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        // The time is taken now, as the value will reach the database only on the next flush
+        if (!writeBuffer.add(new ItemValueVO(item, state, date != null ? date : ZonedDateTime.now()))) {
+            logger.debug("JDBC::store: write buffer is full, dropping state '{}' for item '{}'", state,
+                    item.getName());
+            return;
+        }
+        if (writeBuffer.size() >= conf.getBatchSize() && flushPending.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    private synchronized void flush() {
+        flushPending.set(false);
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer == null) {
+            return;
+        }
+        long dropped = writeBuffer.getDropped();
+        if (dropped > reportedDropped) {
+            logger.warn("JDBC::flush: Write buffer limit of {} values reached, {} values have been dropped so far",
+                    writeBuffer.getMaxSize(), dropped);
+            reportedDropped = dropped;
+        }
+        int queueDepth = writeBuffer.size();
+        if (queueDepth == 0) {
+            return;
+        }
+        if (!checkDBAccessability()) {
+            logger.warn(
+                    "JDBC::flush: No connection to database. Keeping {} values queued! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    queueDepth, errCnt, conf.getErrReconnectThreshold());
+            return;
+        }
+        long timerStart = System.currentTimeMillis();
+        int batchSize = conf.getBatchSize();
+        int failed = 0;
+        for (List<ItemValueVO> values : writeBuffer.drain().values()) {
+            // all values of one item go to the same table, the latest item instance is used to resolve it
+            Item item = values.get(values.size() - 1).getItem();
+            for (int i = 0; i < values.size(); i += batchSize) {
+                failed += storeBatch(item, values.subList(i, Math.min(i + batchSize, values.size())));
+            }
+        }
+        long timerStop = System.currentTimeMillis();
+        logFlush(queueDepth, queueDepth - failed, timerStart, timerStop);
+        if (logger.isDebugEnabled()) {
+            logger.debug("JDBC: Flushed {} values to SQL database in {} ms, {} values failed.", queueDepth - failed,
+                    timerStop - timerStart, failed);
+        }
+    }
+
+    /**
+     * Stores a chunk of values of one item in a single batch. If the batch fails, the values are stored one by one, so
+     * a single bad value does not take the rest of the chunk with it.
+     *
+     * @return the number of values that could not be stored
+     */
+    int storeBatch(Item item, List<ItemValueVO> batch) {
+        try {
+            storeItemValues(item, batch);
+            return 0;
+        } catch (JdbcException e) {
+            logger.debug("JDBC::flush: Unable to store {} values for item '{}' at once, storing them one by one",
+                    batch.size(), item.getName(), e);
+        }
+        int failed = 0;
+        for (ItemValueVO value : batch) {
+            try {
+                storeItemValue(item, value.getState(), value.getDate());
+            } catch (JdbcException e) {
+                logger.warn("JDBC::flush: Unable to store state '{}' for item '{}'", value.getState(), item.getName(),
+                        e);
+                // every value counts as a failed store, like in internalStore
+                errCnt++;
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    private void startWriteBuffer() {
+        if (!conf.isBatchingEnabled()) {
+            return;
+        }
+        logger.debug("JDBC::startWriteBuffer: batchSize={} batchFlushInterval={} ms batchMaxQueueSize={}",
+                conf.getBatchSize(), conf.getBatchFlushInterval(), conf.getBatchMaxQueueSize());
+        writeBuffer = new JdbcWriteBuffer(conf.getBatchMaxQueueSize());
+        reportedDropped = 0;
+        flushJob = scheduler.scheduleWithFixedDelay(this::flush, conf.getBatchFlushInterval(),
+                conf.getBatchFlushInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    private void stopWriteBuffer() {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        if (writeBuffer != null) {
+            // store what is left before the buffer is discarded
+            flush();
+            writeBuffer = null;
+        }
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state) {
@@ -178,6 +315,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             }
         } catch (JdbcException e) {
             logger.warn("JDBC::store: Unable to store item", e);
+            errCnt++;
         }
     }
 
@@ -203,34 +341,16 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
         // Get the item name from the filter
         // Also get the Item object so we can determine the type
-        Item item = null;
         String itemName = filter.getItemName();
         if (itemName == null) {
             logger.warn("Item name is missing in filter {}", filter);
             return List.of();
         }
-        logger.debug("JDBC::query: item is {}", itemName);
-        try {
-            item = itemRegistry.getItem(itemName);
-        } catch (ItemNotFoundException e1) {
-            logger.error("JDBC::query: unable to get item for itemName: '{}'. Ignore and give up!", itemName);
+        Item item = getQueryItem(itemName);
+        if (item == null) {
             return List.of();
         }
 
-        if (item instanceof GroupItem) {
-            // For Group Item is BaseItem needed to get correct Type of Value.
-            item = GroupItem.class.cast(item).getBaseItem();
-            logger.debug("JDBC::query: item is instanceof GroupItem '{}'", itemName);
-            if (item == null) {
-                logger.debug("JDBC::query: BaseItem of GroupItem is null. Ignore and give up!");
-                return List.of();
-            }
-            if (item instanceof GroupItem) {
-                logger.debug("JDBC::query: BaseItem of GroupItem is a GroupItem too. Ignore and give up!");
-                return List.of();
-            }
-        }
-
         String table = itemNameToTableNameMap.get(itemName);
         if (table == null) {
             logger.debug("JDBC::query: unable to find table for item with name: '{}', no data in database.", itemName);
@@ -253,9 +373,121 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
     }
 
+    /**
+     * Queries the {@link PersistenceService} for data of several items with
+     * the same filter criteria. The queries are executed in parallel, each
+     * using its own connection from the pool.
+     *
+     * @param itemNames
+     *            the names of the items to query
+     * @param filter
+     *            the filter to apply, the item name of the filter is ignored
+     * @return a time series per item name, in the order of the given item names
+     */
+    public Map<String, Iterable<HistoricItem>> query(Collection<String> itemNames, FilterCriteria filter) {
+        Map<String, CompletableFuture<Iterable<HistoricItem>>> queries = new LinkedHashMap<>();
+        for (String itemName : itemNames) {
+            FilterCriteria itemFilter = copyFilter(filter, itemName);
+            queries.put(itemName, CompletableFuture.supplyAsync(() -> query(itemFilter), queryExecutor));
+        }
+        Map<String, Iterable<HistoricItem>> result = new LinkedHashMap<>();
+        queries.forEach((itemName, query) -> result.put(itemName, query.join()));
+        return result;
+    }
+
+    /**
+     * Queries the {@link PersistenceService} for values of a number item
+     * aggregated per time bucket. If supported, the aggregation is done by the
+     * database, so only one row per bucket is transferred.
+     *
+     * @param filter
+     *            the filter providing item name, time range and ordering
+     * @param function
+     *            the aggregate function applied to the values of each bucket
+     * @param bucket
+     *            the length of a time bucket, at least one second
+     * @return a time series with one value per non-empty bucket
+     */
+    public Iterable<HistoricItem> query(FilterCriteria filter, AggregationFunction function, Duration bucket) {
+        if (!checkDBAccessability()) {
+            logger.warn("JDBC::query: database not connected, query aborted for item '{}'", filter.getItemName());
+            return List.of();
+        }
+        String itemName = filter.getItemName();
+        if (itemName == null) {
+            logger.warn("Item name is missing in filter {}", filter);
+            return List.of();
+        }
+        Item item = getQueryItem(itemName);
+        if (!(item instanceof NumberItem)) {
+            logger.debug("JDBC::query: aggregation is only supported for number items, '{}' is {}", itemName, item);
+            return List.of();
+        }
+        String table = itemNameToTableNameMap.get(itemName);
+        if (table == null) {
+            logger.debug("JDBC::query: unable to find table for item with name: '{}', no data in database.", itemName);
+            return List.of();
+        }
+
+        try {
+            long timerStart = System.currentTimeMillis();
+            List<HistoricItem> items = getHistItemAggregateQuery(filter, function, bucket, table, item);
+            if (logger.isDebugEnabled()) {
+                logger.debug("JDBC: Aggregate query {} per {} for item '{}' returned {} rows in {} ms", function,
+                        bucket, itemName, items.size(), System.currentTimeMillis() - timerStart);
+            }
+            // Success
+            errCnt = 0;
+            return items;
+        } catch (JdbcSQLException e) {
+            logger.warn("JDBC::query: Unable to query item", e);
+            return List.of();
+        }
+    }
+
+    private @Nullable Item getQueryItem(String itemName) {
+        Item item;
+        logger.debug("JDBC::query: item is {}", itemName);
+        try {
+            item = itemRegistry.getItem(itemName);
+        } catch (ItemNotFoundException e1) {
+            logger.error("JDBC::query: unable to get item for itemName: '{}'. Ignore and give up!", itemName);
+            return null;
+        }
+
+        if (item instanceof GroupItem) {
+            // For Group Item is BaseItem needed to get correct Type of Value.
+            item = GroupItem.class.cast(item).getBaseItem();
+            logger.debug("JDBC::query: item is instanceof GroupItem '{}'", itemName);
+            if (item == null) {
+                logger.debug("JDBC::query: BaseItem of GroupItem is null. Ignore and give up!");
+                return null;
+            }
+            if (item instanceof GroupItem) {
+                logger.debug("JDBC::query: BaseItem of GroupItem is a GroupItem too. Ignore and give up!");
+                return null;
+            }
+        }
+        return item;
+    }
+
+    private FilterCriteria copyFilter(FilterCriteria filter, String itemName) {
+        FilterCriteria copy = new FilterCriteria();
+        copy.setItemName(itemName);
+        copy.setBeginDate(filter.getBeginDate());
+        copy.setEndDate(filter.getEndDate());
+        copy.setOrdering(filter.getOrdering());
+        copy.setPageNumber(filter.getPageNumber());
+        copy.setPageSize(filter.getPageSize());
+        copy.setOperator(filter.getOperator());
+        copy.setState(filter.getState());
+        return copy;
+    }
+
     public void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
+        stopWriteBuffer();
         conf = new JdbcConfiguration(configuration);
         if (conf.valid && checkDBAccessability()) {
             namingStrategy = new NamingStrategy(conf);
@@ -270,6 +502,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         } else {
             initialized = false;
         }
+        startWriteBuffer();
 
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
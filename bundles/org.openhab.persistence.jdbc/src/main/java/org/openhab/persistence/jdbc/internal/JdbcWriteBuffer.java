@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.persistence.jdbc.internal.dto.ItemValueVO;
+
+/**
+ * Write-behind buffer collecting item values grouped by item name, so they can be
+ * stored with one batch statement per item table.
+ *
+ * The buffer is bounded: values offered while {@link #getMaxSize()} values are pending
+ * are rejected and counted as dropped.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBuffer {
+
+    private final int maxSize;
+    private Map<String, List<ItemValueVO>> pending = new LinkedHashMap<>();
+    private int size = 0;
+    private long dropped = 0;
+
+    public JdbcWriteBuffer(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds a value to the buffer.
+     *
+     * @param value the value to be stored
+     * @return true if the value was added, false if the buffer is full and the value was dropped
+     */
+    public synchronized boolean add(ItemValueVO value) {
+        if (size >= maxSize) {
+            dropped++;
+            return false;
+        }
+        pending.computeIfAbsent(value.getItem().getName(), k -> new ArrayList<>()).add(value);
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes and returns all pending values, grouped by item name in order of first arrival.
+     *
+     * @return map of item name to values in the order they were added
+     */
+    public synchronized Map<String, List<ItemValueVO>> drain() {
+        Map<String, List<ItemValueVO>> drained = pending;
+        pending = new LinkedHashMap<>();
+        size = 0;
+        return drained;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
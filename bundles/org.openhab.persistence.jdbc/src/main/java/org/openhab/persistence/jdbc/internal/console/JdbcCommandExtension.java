@@ -12,10 +12,15 @@
  */
 package org.openhab.persistence.jdbc.internal.console;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
@@ -28,8 +33,12 @@ import org.openhab.core.io.console.ConsoleCommandCompleter;
 import org.openhab.core.io.console.StringsCompleter;
 import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
 import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
+import org.openhab.persistence.jdbc.internal.AggregationFunction;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntry;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntryStatus;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceService;
@@ -51,6 +60,7 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String CMD_SCHEMA = "schema";
     private static final String CMD_TABLES = "tables";
     private static final String CMD_RELOAD = "reload";
+    private static final String CMD_QUERY = "query";
     private static final String SUBCMD_SCHEMA_CHECK = "check";
     private static final String SUBCMD_SCHEMA_FIX = "fix";
     private static final String SUBCMD_TABLES_LIST = "list";
@@ -58,11 +68,13 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String PARAMETER_ALL = "all";
     private static final String PARAMETER_FORCE = "force";
     private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
-            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD), false);
+            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD, CMD_QUERY), false);
     private static final StringsCompleter SUBCMD_SCHEMA_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_SCHEMA_CHECK, SUBCMD_SCHEMA_FIX), false);
     private static final StringsCompleter SUBCMD_TABLES_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_TABLES_LIST, SUBCMD_TABLES_CLEAN), false);
+    private static final StringsCompleter AGGREGATION_FUNCTION_COMPLETER = new StringsCompleter(
+            Stream.of(AggregationFunction.values()).map(f -> f.name().toLowerCase(Locale.ROOT)).toList(), false);
 
     private final PersistenceServiceRegistry persistenceServiceRegistry;
 
@@ -74,7 +86,7 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
 
     @Override
     public void execute(String[] args, Console console) {
-        if (args.length < 1 || args.length > 4) {
+        if (args.length < 1 || args.length > 5) {
             printUsage(console);
             return;
         }
@@ -135,6 +147,8 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         } else if (args.length == 1 && CMD_RELOAD.equalsIgnoreCase(args[0])) {
             reload(persistenceService, console);
             return true;
+        } else if ((args.length == 3 || args.length == 5) && CMD_QUERY.equalsIgnoreCase(args[0])) {
+            return query(persistenceService, console, args);
         }
         return false;
     }
@@ -252,6 +266,45 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         console.println("Item index reloaded.");
     }
 
+    private boolean query(JdbcPersistenceService persistenceService, Console console, String[] args) {
+        List<String> itemNames = List.of(args[1].split(","));
+        Duration period;
+        @Nullable
+        AggregationFunction function = null;
+        Duration bucket = Duration.ZERO;
+        try {
+            period = Duration.parse(args[2]);
+            if (args.length == 5) {
+                function = AggregationFunction.valueOf(args[3].toUpperCase(Locale.ROOT));
+                bucket = Duration.parse(args[4]);
+            }
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return false;
+        }
+        ZonedDateTime now = ZonedDateTime.now();
+        FilterCriteria filter = new FilterCriteria();
+        filter.setBeginDate(now.minus(period));
+        filter.setEndDate(now);
+        filter.setOrdering(Ordering.ASCENDING);
+        Map<String, Iterable<HistoricItem>> result;
+        if (function == null) {
+            result = persistenceService.query(itemNames, filter);
+        } else {
+            result = new LinkedHashMap<>();
+            for (String itemName : itemNames) {
+                filter.setItemName(itemName);
+                result.put(itemName, persistenceService.query(filter, function, bucket));
+            }
+        }
+        result.forEach((itemName, historicItems) -> {
+            console.println(itemName + ":");
+            for (HistoricItem historicItem : historicItems) {
+                console.println(String.format("  %1$-37s%2$s", historicItem.getTimestamp(), historicItem.getState()));
+            }
+        });
+        return true;
+    }
+
     @Override
     public List<String> getUsages() {
         return Arrays.asList(buildCommandUsage(CMD_SCHEMA + " " + SUBCMD_SCHEMA_CHECK, "check schema integrity"),
@@ -261,7 +314,9 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                 buildCommandUsage(
                         CMD_TABLES + " " + SUBCMD_TABLES_CLEAN + " [<itemName>]" + " [" + PARAMETER_FORCE + "]",
                         "clean inconsistent items (remove from index and drop tables)"),
-                buildCommandUsage(CMD_RELOAD, "reload item index/schema"));
+                buildCommandUsage(CMD_RELOAD, "reload item index/schema"),
+                buildCommandUsage(CMD_QUERY + " <itemName>[,<itemName>...] <period> [avg|min|max|sum <bucket>]",
+                        "query values of the last period (e.g. PT24H), optionally aggregated per bucket (e.g. PT1H)"));
     }
 
     @Override
@@ -278,6 +333,12 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                 return SUBCMD_TABLES_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
             } else if (CMD_SCHEMA.equalsIgnoreCase(args[0])) {
                 return SUBCMD_SCHEMA_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+            } else if (CMD_QUERY.equalsIgnoreCase(args[0])) {
+                JdbcPersistenceService persistenceService = getPersistenceService();
+                if (persistenceService != null) {
+                    return new StringsCompleter(persistenceService.getItemNames(), true).complete(args,
+                            cursorArgumentIndex, cursorPosition, candidates);
+                }
             }
         } else if (cursorArgumentIndex == 2) {
             if (CMD_TABLES.equalsIgnoreCase(args[0])) {
@@ -300,6 +361,8 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                     }
                 }
             }
+        } else if (cursorArgumentIndex == 3 && CMD_QUERY.equalsIgnoreCase(args[0])) {
+            return AGGREGATION_FUNCTION_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
         }
         return false;
     }
@@ -13,17 +13,22 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
@@ -56,8 +61,10 @@ import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
+import org.openhab.persistence.jdbc.internal.AggregationFunction;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
+import org.openhab.persistence.jdbc.internal.dto.ItemValueVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -444,10 +451,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" }, new String[] { storedVO.getTableName(), "?" });
+        String sql = storeItemValueTimestampSqlProvider(storedVO);
         java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
+        Object[] params = storeItemValueTimestampParamsProvider(storedVO, timestamp);
         logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
         try {
             Yank.execute(sql, params);
@@ -456,6 +462,39 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores several values of the same item with a single JDBC batch statement.
+     * Drivers supporting batch rewriting (e.g. MariaDB, MySQL with rewriteBatchedStatements=true,
+     * PostgreSQL with reWriteBatchedInserts=true) send them as one multi-row INSERT.
+     *
+     * @param vo holding the table name of the item
+     * @param values the values to store, all belonging to the same item
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreItemValues(ItemVO vo, List<ItemValueVO> values) throws JdbcSQLException {
+        if (values.isEmpty()) {
+            return;
+        }
+        String sql = null;
+        Object[][] params = new Object[values.size()][];
+        for (int i = 0; i < values.size(); i++) {
+            ItemValueVO value = values.get(i);
+            ItemVO storedVO = storeItemValueProvider(value.getItem(), value.getState(),
+                    new ItemVO(vo.getTableName(), null));
+            if (sql == null) {
+                sql = storeItemValueTimestampSqlProvider(storedVO);
+            }
+            java.sql.Timestamp timestamp = new java.sql.Timestamp(value.getDate().toInstant().toEpochMilli());
+            params[i] = storeItemValueTimestampParamsProvider(storedVO, timestamp);
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} count={}", sql, values.size());
+        try {
+            Yank.executeBatch(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -478,6 +517,98 @@ public class JdbcBaseDAO {
                 .collect(Collectors.<HistoricItem> toList());
     }
 
+    /**
+     * Queries aggregated values per time bucket. Databases providing a
+     * {@link #histItemAggregateQueryProvider} aggregate the values themselves, for all others the values of the
+     * time range are read and aggregated here.
+     *
+     * @param item the item to query, must be a {@link NumberItem}
+     * @param filter the filter providing time range and ordering, paging is ignored
+     * @param function the aggregate function applied to the values of each bucket
+     * @param bucket the length of a time bucket, at least one second
+     * @param table the item table
+     * @param timeZone the time zone of the database
+     * @return one value per non-empty bucket, timestamped with the start of the bucket
+     * @throws JdbcSQLException on SQL errors
+     */
+    public List<HistoricItem> doGetHistItemAggregateQuery(Item item, FilterCriteria filter,
+            AggregationFunction function, Duration bucket, String table, ZoneId timeZone) throws JdbcSQLException {
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        String sql = histItemAggregateQueryProvider(filter, function, bucket, table, timeZone);
+        if (sql == null) {
+            FilterCriteria valueFilter = new FilterCriteria();
+            valueFilter.setItemName(itemName);
+            valueFilter.setBeginDate(filter.getBeginDate());
+            valueFilter.setEndDate(filter.getEndDate());
+            valueFilter.setOrdering(Ordering.ASCENDING);
+            List<HistoricItem> values = doGetHistItemFilterQuery(item, valueFilter, -1, table, itemName, timeZone);
+            return aggregate(itemName, values, function, bucket, filter.getOrdering(), unit);
+        }
+        logger.debug("JDBC::doGetHistItemAggregateQuery sql={}", sql);
+        List<Object[]> m;
+        try {
+            m = Yank.queryObjectArrays(sql, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        if (m == null) {
+            logger.debug("JDBC::doGetHistItemAggregateQuery Query failed. Returning an empty list.");
+            return List.of();
+        }
+        // buckets containing only NULL values have no aggregate
+        return m.stream().filter(o -> o[1] != null)
+                .map(o -> new JdbcHistoricItem(itemName, aggregateAsState(objectAsNumber(o[1]).doubleValue(), unit),
+                        objectAsZonedDateTime(o[0])))
+                .collect(Collectors.<HistoricItem> toList());
+    }
+
+    /**
+     * Aggregates the values per time bucket. Buckets are aligned to the local date and time of the values, like the
+     * time column of the database.
+     *
+     * @param itemName the name of the item
+     * @param values the values in ascending order
+     * @param function the aggregate function applied to the values of each bucket
+     * @param bucket the length of a time bucket, at least one second
+     * @param ordering the ordering of the returned buckets
+     * @param unit the unit of the item, or null if it has none
+     * @return one value per non-empty bucket, timestamped with the start of the bucket
+     */
+    static List<HistoricItem> aggregate(String itemName, List<HistoricItem> values, AggregationFunction function,
+            Duration bucket, Ordering ordering, @Nullable Unit<? extends Quantity<?>> unit) {
+        long seconds = Math.max(1, bucket.toSeconds());
+        TreeMap<Long, DoubleSummaryStatistics> statistics = new TreeMap<>();
+        Map<Long, ZoneId> zones = new HashMap<>();
+        for (HistoricItem value : values) {
+            if (value.getState() instanceof Number number) {
+                ZonedDateTime timestamp = value.getTimestamp();
+                long key = Math.floorDiv(timestamp.toLocalDateTime().toEpochSecond(ZoneOffset.UTC), seconds);
+                statistics.computeIfAbsent(key, k -> new DoubleSummaryStatistics()).accept(number.doubleValue());
+                zones.putIfAbsent(key, timestamp.getZone());
+            }
+        }
+        Map<Long, DoubleSummaryStatistics> buckets = ordering == Ordering.ASCENDING ? statistics
+                : statistics.descendingMap();
+        List<HistoricItem> result = new ArrayList<>(buckets.size());
+        buckets.forEach((key, stats) -> {
+            double value = switch (function) {
+                case AVG -> stats.getAverage();
+                case MIN -> stats.getMin();
+                case MAX -> stats.getMax();
+                case SUM -> stats.getSum();
+            };
+            ZonedDateTime start = LocalDateTime.ofEpochSecond(key * seconds, 0, ZoneOffset.UTC)
+                    .atZone(Objects.requireNonNull(zones.get(key)));
+            result.add(new JdbcHistoricItem(itemName, aggregateAsState(value, unit), start));
+        });
+        return result;
+    }
+
+    private static State aggregateAsState(double value, @Nullable Unit<? extends Quantity<?>> unit) {
+        return unit == null ? new DecimalType(value) : QuantityType.valueOf(value, unit);
+    }
+
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterDeleteProvider(filter, table, timeZone);
         logger.debug("JDBC::doDeleteItemValues sql={}", sql);
@@ -528,6 +659,16 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Returns the query aggregating the values per time bucket, see {@link #doGetHistItemAggregateQuery}.
+     *
+     * @return the query, or null if the values are aggregated by {@link #aggregate}
+     */
+    protected @Nullable String histItemAggregateQueryProvider(FilterCriteria filter, AggregationFunction function,
+            Duration bucket, String table, ZoneId timeZone) {
+        return null;
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
@@ -553,6 +694,15 @@ public class JdbcBaseDAO {
         return filterString;
     }
 
+    protected String storeItemValueTimestampSqlProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" }, new String[] { storedVO.getTableName(), "?" });
+    }
+
+    protected Object[] storeItemValueTimestampParamsProvider(ItemVO storedVO, java.sql.Timestamp timestamp) {
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     private String updateItemTableNamesProvider(ItemVO itemTable) {
         String queryString = "ALTER TABLE " + itemTable.getTableName() + " RENAME TO " + itemTable.getNewTableName();
         logger.debug("JDBC::query queryString = {}", queryString);
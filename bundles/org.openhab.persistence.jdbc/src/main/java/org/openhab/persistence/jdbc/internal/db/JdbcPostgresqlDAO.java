@@ -12,6 +12,7 @@
  */
 package org.openhab.persistence.jdbc.internal.db;
 
+import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -23,6 +24,7 @@ import org.openhab.core.items.Item;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.AggregationFunction;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
@@ -239,19 +241,15 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
     }
 
     @Override
-    public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
-        ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+    protected String storeItemValueTimestampSqlProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
                 new String[] { "#tableName#", "#dbType#", "#tablePrimaryValue#" },
                 new String[] { storedVO.getTableName(), storedVO.getDbType(), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
-        try {
-            Yank.execute(sql, params);
-        } catch (YankSQLException e) {
-            throw new JdbcSQLException(e);
-        }
+    }
+
+    @Override
+    protected Object[] storeItemValueTimestampParamsProvider(ItemVO storedVO, java.sql.Timestamp timestamp) {
+        return new Object[] { timestamp, storedVO.getValue() };
     }
 
     /****************************
@@ -293,6 +291,32 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
         return queryString;
     }
 
+    @Override
+    protected String histItemAggregateQueryProvider(FilterCriteria filter, AggregationFunction function,
+            Duration bucket, String table, ZoneId timeZone) {
+        logger.debug("JDBC::histItemAggregateQueryProvider filter = {}, function = {}, bucket = {}, table = {}",
+                filter, function, bucket, table);
+        String queryString = "SELECT " + timeBucketProvider(bucket) + " AS bucket, " + function.name()
+                + "(value) FROM " + table + resolveTimeFilter(filter, timeZone) + " GROUP BY bucket ORDER BY bucket "
+                + (filter.getOrdering() == Ordering.ASCENDING ? "ASC" : "DESC");
+        logger.debug("JDBC::query queryString = {}", queryString);
+        return queryString;
+    }
+
+    /**
+     * Returns the SQL expression mapping the time column to the start of its bucket.
+     *
+     * @param bucket the length of a time bucket
+     * @return SQL expression
+     */
+    protected String timeBucketProvider(Duration bucket) {
+        long seconds = Math.max(1, bucket.toSeconds());
+        // time is a timestamp without time zone, so the bucket is calculated on its local date and time without
+        // converting it to a timestamp with time zone in the session time zone
+        return "TIMESTAMP 'epoch' + floor(extract(epoch from time) / " + seconds + ") * " + seconds
+                + " * INTERVAL '1 second'";
+    }
+
     /*****************
      * H E L P E R S *
      *****************/
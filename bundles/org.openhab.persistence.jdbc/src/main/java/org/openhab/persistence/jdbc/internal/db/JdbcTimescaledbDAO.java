@@ -12,6 +12,7 @@
  */
 package org.openhab.persistence.jdbc.internal.db;
 
+import java.time.Duration;
 import java.util.Properties;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -46,6 +47,11 @@ public class JdbcTimescaledbDAO extends JdbcPostgresqlDAO {
         return properties;
     }
 
+    @Override
+    protected String timeBucketProvider(Duration bucket) {
+        return "time_bucket(INTERVAL '" + Math.max(1, bucket.toSeconds()) + " seconds', time)";
+    }
+
     @Override
     public void doCreateItemTable(ItemVO vo) throws JdbcSQLException {
         super.doCreateItemTable(vo);
@@ -12,15 +12,28 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.ItemValueVO;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 
 /**
  * Tests the {@link JdbcPersistenceService}.
@@ -48,4 +61,33 @@ public class JdbcPersistenceServiceTest {
     void removeThrowsIllegalArgumentExceptionIfItemNameOfFilterIsNull() {
         assertThrows(IllegalArgumentException.class, () -> jdbcPersistenceService.remove(filter));
     }
+
+    @Test
+    void failedBatchIsStoredValueByValue() {
+        List<State> stored = new ArrayList<>();
+        JdbcPersistenceService service = new JdbcPersistenceService(mock(ItemRegistry.class),
+                mock(TimeZoneProvider.class)) {
+            @Override
+            protected void storeItemValues(Item item, List<ItemValueVO> values) throws JdbcException {
+                throw new JdbcException("Batch failed");
+            }
+
+            @Override
+            protected void storeItemValue(Item item, State itemState, @Nullable ZonedDateTime date)
+                    throws JdbcException {
+                if (new DecimalType(2).equals(itemState)) {
+                    throw new JdbcException("Value rejected");
+                }
+                stored.add(itemState);
+            }
+        };
+        NumberItem item = new NumberItem("Number");
+        ZonedDateTime now = ZonedDateTime.now();
+        List<ItemValueVO> batch = List.of(new ItemValueVO(item, new DecimalType(1), now),
+                new ItemValueVO(item, new DecimalType(2), now.plusSeconds(1)),
+                new ItemValueVO(item, new DecimalType(3), now.plusSeconds(2)));
+
+        assertThat(service.storeBatch(item, batch), is(1));
+        assertThat(stored, is(List.of(new DecimalType(1), new DecimalType(3))));
+    }
 }
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.SwitchItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.persistence.jdbc.internal.dto.ItemValueVO;
+
+/**
+ * Tests the {@link JdbcWriteBuffer} class.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBufferTest {
+
+    private final NumberItem numberItem = new NumberItem("Number");
+    private final SwitchItem switchItem = new SwitchItem("Switch");
+
+    @Test
+    public void valuesAreGroupedByItemInArrivalOrder() {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(10);
+        ZonedDateTime now = ZonedDateTime.now();
+
+        buffer.add(new ItemValueVO(numberItem, new DecimalType(1), now));
+        buffer.add(new ItemValueVO(switchItem, OnOffType.ON, now));
+        buffer.add(new ItemValueVO(numberItem, new DecimalType(2), now.plusSeconds(1)));
+
+        assertThat(buffer.size(), is(3));
+        Map<String, List<ItemValueVO>> drained = buffer.drain();
+        assertThat(List.copyOf(drained.keySet()), is(List.of("Number", "Switch")));
+        List<ItemValueVO> numberValues = Objects.requireNonNull(drained.get("Number"));
+        assertThat(numberValues.size(), is(2));
+        assertThat(numberValues.get(0).getState(), is(new DecimalType(1)));
+        assertThat(numberValues.get(1).getState(), is(new DecimalType(2)));
+        assertThat(buffer.size(), is(0));
+    }
+
+    @Test
+    public void valuesAreDroppedWhenFull() {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(2);
+        ZonedDateTime now = ZonedDateTime.now();
+
+        assertThat(buffer.add(new ItemValueVO(numberItem, new DecimalType(1), now)), is(true));
+        assertThat(buffer.add(new ItemValueVO(numberItem, new DecimalType(2), now)), is(true));
+        assertThat(buffer.add(new ItemValueVO(numberItem, new DecimalType(3), now)), is(false));
+
+        assertThat(buffer.size(), is(2));
+        assertThat(buffer.getDropped(), is(1L));
+
+        buffer.drain();
+        assertThat(buffer.add(new ItemValueVO(numberItem, new DecimalType(4), now)), is(true));
+    }
+}
@@ -16,13 +16,16 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -65,7 +68,10 @@ import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.AggregationFunction;
+import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -249,6 +255,90 @@ public class JdbcBaseDAOTest {
                         + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate())) + "'"));
     }
 
+    @Test
+    void testHistItemAggregateQueryProviderIsNotProvidedByDefault() {
+        assertNull(jdbcBaseDAO.histItemAggregateQueryProvider(filter, AggregationFunction.AVG, Duration.ofMinutes(15),
+                DB_TABLE_NAME, UTC_ZONE_ID));
+    }
+
+    @Test
+    void testAggregateReturnsValuePerBucket() {
+        ZoneId zoneId = ZoneId.of("Europe/Berlin");
+        List<HistoricItem> values = List.of(historicItem("2022-01-10T10:05:00", zoneId, new DecimalType(1)),
+                historicItem("2022-01-10T10:20:00", zoneId, new DecimalType(3)),
+                historicItem("2022-01-10T10:50:00", zoneId, new DecimalType(5)),
+                historicItem("2022-01-10T11:10:00", zoneId, new DecimalType(7)));
+
+        List<HistoricItem> result = JdbcBaseDAO.aggregate("testitem", values, AggregationFunction.AVG,
+                Duration.ofMinutes(30), Ordering.DESCENDING, null);
+
+        assertThat(result.stream().map(HistoricItem::getTimestamp).toList(),
+                is(List.of(ZonedDateTime.of(LocalDateTime.parse("2022-01-10T11:00:00"), zoneId),
+                        ZonedDateTime.of(LocalDateTime.parse("2022-01-10T10:30:00"), zoneId),
+                        ZonedDateTime.of(LocalDateTime.parse("2022-01-10T10:00:00"), zoneId))));
+        assertThat(result.stream().map(HistoricItem::getState).toList(),
+                is(List.of(new DecimalType(7), new DecimalType(5), new DecimalType(2))));
+    }
+
+    @Test
+    void testAggregateReturnsQuantityTypeForItemWithUnit() {
+        List<HistoricItem> values = List.of(
+                historicItem("2022-01-10T10:05:00", UTC_ZONE_ID, new QuantityType<>("1.5 °C")),
+                historicItem("2022-01-10T10:20:00", UTC_ZONE_ID, new QuantityType<>("2.5 °C")));
+
+        List<HistoricItem> result = JdbcBaseDAO.aggregate("testitem", values, AggregationFunction.SUM,
+                Duration.ofHours(1), Ordering.ASCENDING, SIUnits.CELSIUS);
+
+        assertThat(result.size(), is(1));
+        assertThat(result.get(0).getState(), is(new QuantityType<>("4.0 °C")));
+        assertThat(result.get(0).getTimestamp(), is(parseDateTimeString("2022-01-10T10:00:00")));
+    }
+
+    @Test
+    void testPostgresqlHistItemAggregateQueryProviderReturnsGroupedQuery() {
+        JdbcPostgresqlDAO jdbcPostgresqlDAO = new JdbcPostgresqlDAO();
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setOrdering(Ordering.ASCENDING);
+
+        String sql = jdbcPostgresqlDAO.histItemAggregateQueryProvider(filter, AggregationFunction.MAX,
+                Duration.ofMinutes(15), DB_TABLE_NAME, UTC_ZONE_ID);
+        assertThat(sql, is("SELECT TIMESTAMP 'epoch' + floor(extract(epoch from time) / 900) * 900"
+                + " * INTERVAL '1 second' AS bucket, MAX(value) FROM " + DB_TABLE_NAME + " WHERE TIME>='"
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate()))
+                + "' GROUP BY bucket ORDER BY bucket ASC"));
+    }
+
+    @Test
+    void testPostgresqlHistItemAggregateQueryProviderUsesLocalTimeOfTimeZone() {
+        JdbcPostgresqlDAO jdbcPostgresqlDAO = new JdbcPostgresqlDAO();
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setEndDate(parseDateTimeString("2022-01-10T23:30:00"));
+        filter.setOrdering(Ordering.DESCENDING);
+
+        // the time column holds the local time of the time zone, buckets must not be shifted by the session time zone
+        String sql = jdbcPostgresqlDAO.histItemAggregateQueryProvider(filter, AggregationFunction.AVG,
+                Duration.ofHours(1), DB_TABLE_NAME, ZoneId.of("America/New_York"));
+        assertThat(sql, is("SELECT TIMESTAMP 'epoch' + floor(extract(epoch from time) / 3600) * 3600"
+                + " * INTERVAL '1 second' AS bucket, AVG(value) FROM " + DB_TABLE_NAME
+                + " WHERE TIME>='2022-01-10 10:01:44' AND TIME<='2022-01-10 18:30:00'"
+                + " GROUP BY bucket ORDER BY bucket DESC"));
+    }
+
+    @Test
+    void testTimescaledbHistItemAggregateQueryProviderUsesTimeBucket() {
+        JdbcTimescaledbDAO jdbcTimescaledbDAO = new JdbcTimescaledbDAO();
+        filter.setOrdering(Ordering.DESCENDING);
+
+        String sql = jdbcTimescaledbDAO.histItemAggregateQueryProvider(filter, AggregationFunction.AVG,
+                Duration.ofHours(1), DB_TABLE_NAME, UTC_ZONE_ID);
+        assertThat(sql, is("SELECT time_bucket(INTERVAL '3600 seconds', time) AS bucket, AVG(value) FROM "
+                + DB_TABLE_NAME + " GROUP BY bucket ORDER BY bucket DESC"));
+    }
+
+    private HistoricItem historicItem(String dts, ZoneId zoneId, State state) {
+        return new JdbcHistoricItem("testitem", state, ZonedDateTime.of(LocalDateTime.parse(dts, DATE_PARSER), zoneId));
+    }
+
     private ZonedDateTime parseDateTimeString(String dts) {
         return ZonedDateTime.of(LocalDateTime.parse(dts, DATE_PARSER), UTC_ZONE_ID);
     }
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RRD4jDatabaseCache} keeps a bounded number of {@link RrdDb} handles open, so that
+ * storing a sample does not need to open and close the database file each time.
+ *
+ * Handles are evicted in least recently used order when the cache is full, or when they have not
+ * been used for a given time. Access to a single database is guarded by one of a fixed set of
+ * striped locks, so writes to different databases do not block each other. Callers must hold the
+ * lock returned by {@link #getLock(String)} while using a handle returned by {@link #get(String)}.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jDatabaseCache {
+
+    private static final int LOCK_STRIPES = 16;
+
+    private record CachedDb(RrdDb db, long lastAccess) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jDatabaseCache.class);
+
+    private final int maxSize;
+    private final Function<String, @Nullable RrdDb> opener;
+    private final Map<String, CachedDb> handles = new LinkedHashMap<>(16, 0.75f, true);
+    private final Lock[] locks = new Lock[LOCK_STRIPES];
+    private final List<Map.Entry<String, RrdDb>> pendingClose = new ArrayList<>();
+
+    /**
+     * @param maxSize maximum number of open handles, must stay below the capacity of the database pool
+     * @param opener function opening (and creating if needed) the database of the given name
+     */
+    public RRD4jDatabaseCache(int maxSize, Function<String, @Nullable RrdDb> opener) {
+        this.maxSize = maxSize;
+        this.opener = opener;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock getLock(String name) {
+        return locks[Math.floorMod(name.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * Returns an open handle for the given database, opening it if it is not cached yet.
+     * The lock of the database must be held by the caller.
+     *
+     * @param name the name of the database
+     * @return the handle or null if the database could not be opened
+     */
+    public @Nullable RrdDb get(String name) {
+        synchronized (handles) {
+            CachedDb cached = handles.get(name);
+            if (cached != null) {
+                handles.put(name, new CachedDb(cached.db(), System.currentTimeMillis()));
+                return cached.db();
+            }
+        }
+        RrdDb db = opener.apply(name);
+        if (db == null) {
+            return null;
+        }
+        List<Map.Entry<String, RrdDb>> evicted = new ArrayList<>();
+        synchronized (handles) {
+            handles.put(name, new CachedDb(db, System.currentTimeMillis()));
+            Iterator<Map.Entry<String, CachedDb>> it = handles.entrySet().iterator();
+            while (handles.size() > maxSize && it.hasNext()) {
+                Map.Entry<String, CachedDb> eldest = it.next();
+                if (!eldest.getKey().equals(name)) {
+                    evicted.add(Map.entry(eldest.getKey(), eldest.getValue().db()));
+                    it.remove();
+                }
+            }
+        }
+        for (Map.Entry<String, RrdDb> e : evicted) {
+            // the caller holds a lock, so do not wait for another one to avoid deadlocks
+            Lock lock = getLock(e.getKey());
+            if (lock.tryLock()) {
+                try {
+                    close(e.getKey(), e.getValue());
+                } finally {
+                    lock.unlock();
+                }
+            } else {
+                synchronized (pendingClose) {
+                    pendingClose.add(e);
+                }
+            }
+        }
+        return db;
+    }
+
+    /**
+     * Closes all handles which have not been used for the given time.
+     * Must not be called while holding a database lock.
+     *
+     * @param maxIdleMillis maximum idle time in milliseconds
+     */
+    public void evictIdle(long maxIdleMillis) {
+        long limit = System.currentTimeMillis() - maxIdleMillis;
+        List<Map.Entry<String, RrdDb>> evicted = new ArrayList<>();
+        synchronized (pendingClose) {
+            evicted.addAll(pendingClose);
+            pendingClose.clear();
+        }
+        synchronized (handles) {
+            Iterator<Map.Entry<String, CachedDb>> it = handles.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, CachedDb> entry = it.next();
+                if (entry.getValue().lastAccess() < limit) {
+                    evicted.add(Map.entry(entry.getKey(), entry.getValue().db()));
+                    it.remove();
+                }
+            }
+        }
+        if (!evicted.isEmpty()) {
+            logger.trace("Closing {} idle rrd4j databases", evicted.size());
+        }
+        for (Map.Entry<String, RrdDb> e : evicted) {
+            Lock lock = getLock(e.getKey());
+            lock.lock();
+            try {
+                close(e.getKey(), e.getValue());
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Closes all cached handles. Must not be called while holding a database lock.
+     */
+    public void clear() {
+        evictIdle(-1);
+    }
+
+    private void close(String name, RrdDb db) {
+        try {
+            db.close();
+        } catch (IOException e) {
+            logger.debug("Error closing rrd4j database '{}': {}", name, e.getMessage());
+        }
+    }
+}
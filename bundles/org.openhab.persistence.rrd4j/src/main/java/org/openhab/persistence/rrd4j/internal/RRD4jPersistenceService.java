@@ -22,6 +22,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -34,6 +35,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -136,6 +138,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
 
+    // keep some capacity of the pool for queries and charts, the pool blocks when it is exhausted
+    private static final int MAX_OPEN_DATABASES = 150;
+    private static final long DATABASE_IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
     private boolean active = false;
@@ -148,12 +154,18 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return DATABASE_POOL;
     }
 
+    private final RRD4jDatabaseCache databaseCache = new RRD4jDatabaseCache(MAX_OPEN_DATABASES,
+            name -> openDB(name));
+
     private final ScheduledFuture<?> storeJob;
+    private final ScheduledFuture<?> evictJob;
 
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
         storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
+        evictJob = scheduler.scheduleWithFixedDelay(() -> databaseCache.evictIdle(DATABASE_IDLE_TIMEOUT), 1, 1,
+                TimeUnit.MINUTES);
         modified(config);
         active = true;
     }
@@ -273,6 +285,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+
+        evictJob.cancel(false);
+        databaseCache.clear();
     }
 
     @Override
@@ -340,30 +355,48 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private void doStore(boolean force) {
         long now = System.currentTimeMillis() / 1000;
+        // group the pending values per database, the order of the timestamps is kept for each of them
+        Map<String, List<Map.Entry<Key, Double>>> pending = new LinkedHashMap<>();
         while (!storageMap.isEmpty()) {
             Key key = storageMap.firstKey();
             if (now > key.timestamp || force) {
                 // no new elements can be added for this timestamp because we are already past that time or the service
                 // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
+                Map.Entry<Key, Double> entry = storageMap.pollFirstEntry();
+                pending.computeIfAbsent(entry.getKey().name, k -> new ArrayList<>()).add(entry);
             } else {
+                break;
+            }
+        }
+        pending.forEach(this::writePointsToDatabase);
+    }
+
+    private void writePointsToDatabase(String name, List<Map.Entry<Key, Double>> points) {
+        Lock lock = databaseCache.getLock(name);
+        lock.lock();
+        try {
+            RrdDb db = databaseCache.get(name);
+            if (db == null) {
                 return;
             }
+            for (Map.Entry<Key, Double> point : points) {
+                writePointToDatabase(db, name, point.getValue(), point.getKey().timestamp);
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
-        RrdDb db = null;
+    private @Nullable RrdDb openDB(String name) {
         try {
-            db = getDB(name, true);
+            return getDB(name, true);
         } catch (Exception e) {
             logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
+            return null;
         }
-        if (db == null) {
-            return;
-        }
+    }
 
+    private void writePointToDatabase(RrdDb db, String name, double value, long timestamp) {
         ConsolFun function = getConsolidationFunction(db);
         if (function != ConsolFun.AVERAGE) {
             try {
@@ -400,11 +433,6 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
     }
 
     @Override
@@ -113,4 +113,30 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testNestedJson() throws TransformationException {
+        String json = "{\"list\":[1,{\"name\":\"second\"}],\"object\":{\"a\":1,\"b\":true}}";
+
+        assertEquals("second", processor.transform("{{ value_json.list[1].name }}", json));
+        assertEquals("2", processor.transform("{{ value_json.list|length }}", json));
+        assertEquals("{\"a\":1,\"b\":true}", processor.transform("{{ value_json.object|tojson }}", json));
+    }
+
+    @Test
+    public void testCachedTemplateWithDifferentValues() throws TransformationException {
+        String template = "{% if value_json.state == 'on' %}ON{% else %}OFF{% endif %}";
+
+        assertEquals("ON", processor.transform(template, "{\"state\": \"on\"}"));
+        assertEquals("OFF", processor.transform(template, "{\"state\": \"off\"}"));
+        assertEquals("ON", processor.transform(template, "{\"state\": \"on\"}"));
+    }
+
+    @Test
+    public void testTemplateErrorIsReportedRepeatedly() {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(TransformationException.class,
+                    () -> processor.transform("Hello {{{ value_json.string }}!", "{\"string\": \"world\"}"));
+        }
+    }
 }
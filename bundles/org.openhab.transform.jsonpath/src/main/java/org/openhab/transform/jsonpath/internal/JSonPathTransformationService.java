@@ -12,7 +12,9 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -28,10 +30,15 @@ import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.ReadContext;
 
 /**
  * The implementation of a {@link TransformationService} which transforms the input by JSonPath Expressions.
  *
+ * Compiled expressions are cached. The parsed document of the most recent sources is kept for a short time, so
+ * that several transformations applied to the same payload (e.g. for the channels of a MQTT or HTTP thing) only
+ * parse it once.
+ *
  * @author Gaël L'hopital - Initial contribution
  * @author Sebastian Janzen - Initial contribution
  */
@@ -39,8 +46,33 @@ import com.jayway.jsonpath.PathNotFoundException;
 @Component(property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int PATH_CACHE_SIZE = 256;
+    private static final int DOCUMENT_CACHE_SIZE = 8;
+    private static final long DOCUMENT_CACHE_TTL_MS = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    private final Map<String, JsonPath> pathCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, JsonPath> eldest) {
+            return size() > PATH_CACHE_SIZE;
+        }
+    };
+
+    private final Map<String, CachedDocument> documentCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, CachedDocument> eldest) {
+            return size() > DOCUMENT_CACHE_SIZE;
+        }
+    };
+
+    private record CachedDocument(ReadContext document, long expiry) {
+    }
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -62,7 +94,8 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            JsonPath jsonPath = getJsonPath(jsonPathExpression);
+            Object transformationResult = getDocument(source).read(jsonPath);
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -78,6 +111,39 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    private JsonPath getJsonPath(String jsonPathExpression) {
+        JsonPath jsonPath;
+        synchronized (pathCache) {
+            jsonPath = pathCache.get(jsonPathExpression);
+        }
+        if (jsonPath == null) {
+            jsonPath = JsonPath.compile(jsonPathExpression);
+            synchronized (pathCache) {
+                pathCache.put(jsonPathExpression, jsonPath);
+            }
+        }
+        return jsonPath;
+    }
+
+    private ReadContext getDocument(String source) {
+        long now = System.currentTimeMillis();
+        CachedDocument cachedDocument;
+        synchronized (documentCache) {
+            cachedDocument = documentCache.get(source);
+        }
+        if (cachedDocument != null && cachedDocument.expiry() > now) {
+            return cachedDocument.document();
+        }
+        // parse outside the lock, the parsed document is only read afterwards and can be shared between threads
+        ReadContext document = JsonPath.parse(source);
+        synchronized (documentCache) {
+            // drop expired documents, so that large payloads are not kept until they are looked up again
+            documentCache.values().removeIf(expired -> expired.expiry() <= now);
+            documentCache.put(source, new CachedDocument(document, now + DOCUMENT_CACHE_TTL_MS));
+        }
+        return document;
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
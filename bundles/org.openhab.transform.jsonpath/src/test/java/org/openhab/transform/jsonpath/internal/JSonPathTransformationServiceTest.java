@@ -129,4 +129,20 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testCachedPathOnDifferentDocuments() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("carol", processor.transform("$[0].name", "[{ \"id\":3, \"name\":\"carol\" }]"));
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+    }
+
+    @Test
+    public void testCachedDocumentWithDifferentPaths() throws TransformationException {
+        String json = new String(JSON_ARRAY);
+        assertEquals("bob", processor.transform("$[0].name", json));
+        assertEquals("2", processor.transform("$[1].id", json));
+        assertEquals("[1, 2]", processor.transform("$.*.id", JSON_ARRAY));
+        assertThrows(TransformationException.class, () -> processor.transform("$[5].id", json));
+    }
 }
@@ -12,6 +12,8 @@
  */
 package org.openhab.transform.regex.internal;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,6 +32,10 @@ import org.slf4j.LoggerFactory;
  * <p>
  * <b>Note:</b> the given Regular Expression must contain exactly one group!
  *
+ * <p>
+ * Compiled expressions are cached, callers using the same expression repeatedly can also compile it once with
+ * {@link #compile(String)}.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
@@ -39,6 +45,22 @@ public class RegExTransformationService implements TransformationService {
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+    private static final int PATTERN_CACHE_SIZE = 256;
+
+    private final Map<String, CompiledExpression> patternCache = new ConcurrentHashMap<>();
+
+    /**
+     * A compiled regular expression, either in substitution form (<code>s/regex/substitution/options</code>) or as
+     * pattern with a group to extract.
+     *
+     * @param expression the original expression
+     * @param pattern the compiled pattern
+     * @param substitution the substitution or null if a group should be extracted
+     * @param global true if all occurrences should be substituted
+     */
+    public record CompiledExpression(String expression, Pattern pattern, @Nullable String substitution,
+            boolean global) {
+    }
 
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
@@ -48,25 +70,55 @@ public class RegExTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, regExpression);
 
-        String result = "";
+        return transform(compile(regExpression), source);
+    }
 
-        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
-        if (substMatcher.matches()) {
-            logger.debug("Using substitution form of regex transformation");
-            String regex = substMatcher.group(1);
-            String substitution = substMatcher.group(2);
-            String options = substMatcher.group(3);
-            if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
+    /**
+     * Compiles the given expression, or returns it from the cache if it was compiled before.
+     *
+     * @param regExpression the regular expression or substitution
+     * @return the compiled expression
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid
+     */
+    public CompiledExpression compile(String regExpression) {
+        CompiledExpression compiled = patternCache.get(regExpression);
+        if (compiled == null) {
+            Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
+            if (substMatcher.matches()) {
+                compiled = new CompiledExpression(regExpression, Pattern.compile(substMatcher.group(1)),
+                        substMatcher.group(2), "g".equals(substMatcher.group(3)));
             } else {
-                result = source.trim().replaceFirst(regex, substitution);
+                compiled = new CompiledExpression(regExpression,
+                        Pattern.compile("^" + regExpression + "$", Pattern.DOTALL), null, false);
             }
-            if (result != null) {
-                return result;
+            if (patternCache.size() >= PATTERN_CACHE_SIZE) {
+                // expressions are usually static, so simply start over instead of tracking their usage
+                patternCache.clear();
             }
+            patternCache.put(regExpression, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Transforms the input <code>source</code> by a compiled expression.
+     *
+     * @param compiled the expression returned by {@link #compile(String)}
+     * @param source the input to transform
+     * @return the transformed value or null if the expression does not match
+     */
+    public @Nullable String transform(CompiledExpression compiled, String source) {
+        String regExpression = compiled.expression();
+        String result = "";
+
+        String substitution = compiled.substitution();
+        if (substitution != null) {
+            logger.debug("Using substitution form of regex transformation");
+            Matcher substMatcher = compiled.pattern().matcher(source.trim());
+            return compiled.global() ? substMatcher.replaceAll(substitution) : substMatcher.replaceFirst(substitution);
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        Matcher matcher = compiled.pattern().matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
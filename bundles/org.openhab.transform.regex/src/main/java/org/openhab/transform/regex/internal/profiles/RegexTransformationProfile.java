@@ -12,6 +12,8 @@
  */
 package org.openhab.transform.regex.internal.profiles;
 
+import java.util.regex.PatternSyntaxException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.profiles.ProfileCallback;
@@ -24,6 +26,8 @@ import org.openhab.core.transform.TransformationService;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.Type;
+import org.openhab.transform.regex.internal.RegExTransformationService;
+import org.openhab.transform.regex.internal.RegExTransformationService.CompiledExpression;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,7 +45,7 @@ public class RegexTransformationProfile implements StateProfile {
 
     private final Logger logger = LoggerFactory.getLogger(RegexTransformationProfile.class);
 
-    private final TransformationService service;
+    private final TransformationService transformation;
     private final ProfileCallback callback;
 
     private static final String FUNCTION_PARAM = "function";
@@ -53,7 +57,6 @@ public class RegexTransformationProfile implements StateProfile {
     private final String sourceFormat;
 
     public RegexTransformationProfile(ProfileCallback callback, ProfileContext context, TransformationService service) {
-        this.service = service;
         this.callback = callback;
 
         Object paramFunction = context.getConfiguration().get(FUNCTION_PARAM);
@@ -74,6 +77,18 @@ public class RegexTransformationProfile implements StateProfile {
             function = null;
             sourceFormat = null;
         }
+
+        TransformationService transformation = service;
+        if (function != null && service instanceof RegExTransformationService regExService) {
+            try {
+                // resolve the expression once instead of on every update
+                CompiledExpression compiled = regExService.compile(function);
+                transformation = (f, value) -> regExService.transform(compiled, value);
+            } catch (PatternSyntaxException e) {
+                logger.warn("Invalid regular expression '{}': {}", function, e.getMessage());
+            }
+        }
+        this.transformation = transformation;
     }
 
     @Override
@@ -117,7 +132,7 @@ public class RegexTransformationProfile implements StateProfile {
     private Type transformState(Type state) {
         String result = state.toFullString();
         try {
-            result = TransformationHelper.transform(service, function, sourceFormat, state.toFullString());
+            result = TransformationHelper.transform(transformation, function, sourceFormat, state.toFullString());
         } catch (TransformationException e) {
             logger.warn("Could not transform state '{}' with function '{}' and format '{}'", state, function,
                     sourceFormat);
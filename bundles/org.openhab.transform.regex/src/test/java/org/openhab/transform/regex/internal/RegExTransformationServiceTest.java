@@ -75,4 +75,22 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByCompiledRegex() throws TransformationException {
+        RegExTransformationService.CompiledExpression compiled = processor.compile("POWER:(\\d+)W");
+
+        assertEquals("42", processor.transform(compiled, "POWER:42W"));
+        assertEquals("7", processor.transform(compiled, " POWER:7W "));
+        assertNull(processor.transform(compiled, "VOLTAGE:230V"));
+        assertSame(compiled, processor.compile("POWER:(\\d+)W"));
+    }
+
+    @Test
+    public void testTransformByCompiledSubstitution() throws TransformationException {
+        RegExTransformationService.CompiledExpression compiled = processor.compile("s/([A-Z]+)([0-9]+),*/var$1=$2 /g");
+
+        assertEquals("varX=12 varY=54 ", processor.transform(compiled, "X12,Y54"));
+        assertEquals("varA=1 ", processor.transform(compiled, "A1"));
+    }
 }
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Index to find the first of a list of {@link Range}s which contains a value with a binary search.
+ *
+ * All range limits are sorted and split the number line into elementary segments: the limits themselves and the open
+ * intervals between them. Every segment is either completely inside or completely outside of each range, so the
+ * first matching range can be determined for every segment when the index is built. This also works for overlapping
+ * ranges, in which case the range that was added first wins.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class RangeIndex {
+
+    private final BigDecimal[] limits;
+    private final @Nullable String[] segmentValues;
+
+    /**
+     * Builds the index.
+     *
+     * @param ranges the ranges in order of precedence
+     * @param values the value for each range
+     */
+    public RangeIndex(List<Range> ranges, List<String> values) {
+        List<BigDecimal> allLimits = new ArrayList<>();
+        for (Range range : ranges) {
+            if (range.min != null) {
+                allLimits.add(range.min);
+            }
+            if (range.max != null) {
+                allLimits.add(range.max);
+            }
+        }
+        allLimits.sort(BigDecimal::compareTo);
+        List<BigDecimal> distinctLimits = new ArrayList<>();
+        for (BigDecimal limit : allLimits) {
+            if (distinctLimits.isEmpty() || distinctLimits.get(distinctLimits.size() - 1).compareTo(limit) != 0) {
+                distinctLimits.add(limit);
+            }
+        }
+        limits = distinctLimits.toArray(new BigDecimal[0]);
+
+        // segment 2i is the open interval below limit i, segment 2i+1 is limit i itself
+        int segmentCount = 2 * limits.length + 1;
+        List<List<Integer>> startingRanges = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            startingRanges.add(new ArrayList<>());
+        }
+        int[] lastSegments = new int[ranges.size()];
+        for (int i = 0; i < ranges.size(); i++) {
+            Range range = ranges.get(i);
+            int first = range.min == null ? 0 : 2 * limitIndex(range.min) + (range.minInclusive ? 1 : 2);
+            int last = range.max == null ? segmentCount - 1
+                    : 2 * limitIndex(range.max) + (range.maxInclusive ? 1 : 0);
+            lastSegments[i] = last;
+            if (first <= last) {
+                startingRanges.get(first).add(i);
+            }
+        }
+
+        // sweep over the segments, keeping the ranges covering the current segment ordered by precedence
+        segmentValues = new String[segmentCount];
+        PriorityQueue<Integer> active = new PriorityQueue<>();
+        for (int segment = 0; segment < segmentCount; segment++) {
+            active.addAll(startingRanges.get(segment));
+            Integer top = active.peek();
+            while (top != null && lastSegments[top] < segment) {
+                active.poll();
+                top = active.peek();
+            }
+            segmentValues[segment] = top == null ? null : values.get(top);
+        }
+    }
+
+    /**
+     * Returns the value of the first range containing the given value.
+     *
+     * @param value the value to look up
+     * @return the value of the range or null if no range contains the value
+     */
+    public @Nullable String get(BigDecimal value) {
+        int index = Arrays.binarySearch(limits, value, BigDecimal::compareTo);
+        int segment = index >= 0 ? 2 * index + 1 : 2 * (-index - 1);
+        return segmentValues[segment];
+    }
+
+    private int limitIndex(BigDecimal limit) {
+        return Arrays.binarySearch(limits, limit, BigDecimal::compareTo);
+    }
+}
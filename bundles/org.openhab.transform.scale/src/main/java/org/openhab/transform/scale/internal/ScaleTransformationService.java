@@ -16,12 +16,14 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
@@ -79,7 +81,13 @@ public class ScaleTransformationService
     private static final Range FORMAT_RANGE = Range.range(BigDecimal.ZERO, false, BigDecimal.ZERO, false);
     private final TransformationRegistry transformationRegistry;
 
-    private final Map<String, Map<@Nullable Range, String>> cachedTransformations = new ConcurrentHashMap<>();
+    private final Map<String, Scale> cachedTransformations = new ConcurrentHashMap<>();
+
+    /**
+     * A parsed scale configuration with an index for its numeric ranges.
+     */
+    private record Scale(Map<@Nullable Range, String> data, RangeIndex index) {
+    }
 
     @Activate
     public ScaleTransformationService(@Reference TransformationRegistry transformationRegistry) {
@@ -149,21 +157,21 @@ public class ScaleTransformationService
             if (!cachedTransformations.containsKey(transformation.getUID())) {
                 importConfiguration(transformation);
             }
-            Map<@Nullable Range, String> data = cachedTransformations.get(transformation.getUID());
+            Scale scale = cachedTransformations.get(transformation.getUID());
 
-            if (data != null) {
+            if (scale != null) {
                 String target;
 
                 try {
                     final BigDecimal value = new BigDecimal(source);
-                    target = formatResult(data, source, value);
+                    target = formatResult(scale, source, value);
                 } catch (NumberFormatException e) {
                     // Scale can only be used with numeric inputs, so lets try to see if ever its a valid quantity type
                     try {
                         final QuantityType<?> quantity = new QuantityType<>(source);
-                        return formatResult(data, source, quantity.toBigDecimal());
+                        return formatResult(scale, source, quantity.toBigDecimal());
                     } catch (IllegalArgumentException e2) {
-                        String nonNumeric = data.get(null);
+                        String nonNumeric = scale.data().get(null);
                         if (nonNumeric != null) {
                             target = nonNumeric;
                         } else {
@@ -180,18 +188,18 @@ public class ScaleTransformationService
         throw new TransformationException("Could not find configuration '" + function + "' or failed to parse it.");
     }
 
-    private String formatResult(Map<@Nullable Range, String> data, String source, final BigDecimal value)
-            throws TransformationException {
-        String format = data.get(FORMAT_RANGE);
-        String result = getScaleResult(data, source, value);
+    private String formatResult(Scale scale, String source, final BigDecimal value) throws TransformationException {
+        String format = scale.data().get(FORMAT_RANGE);
+        String result = getScaleResult(scale, source, value);
         return format.replaceAll(FORMAT_VALUE, source).replaceAll(FORMAT_LABEL, result);
     }
 
-    private String getScaleResult(Map<@Nullable Range, String> data, String source, final BigDecimal value)
-            throws TransformationException {
-        return data.entrySet().stream().filter(entry -> entry.getKey() != null && entry.getKey().contains(value))
-                .findFirst().map(Map.Entry::getValue)
-                .orElseThrow(() -> new TransformationException("No matching range for '" + source + "'"));
+    private String getScaleResult(Scale scale, String source, final BigDecimal value) throws TransformationException {
+        String result = scale.index().get(value);
+        if (result == null) {
+            throw new TransformationException("No matching range for '" + source + "'");
+        }
+        return result;
     }
 
     private void importConfiguration(@Nullable Transformation configuration) {
@@ -235,7 +243,16 @@ public class ScaleTransformationService
                     }
                 }
 
-                cachedTransformations.put(configuration.getUID(), data);
+                // the format range does not contain any value, so it can be ignored
+                List<Range> ranges = new ArrayList<>();
+                List<String> values = new ArrayList<>();
+                data.forEach((range, value) -> {
+                    if (range != null && range != FORMAT_RANGE) {
+                        ranges.add(range);
+                        values.add(value);
+                    }
+                });
+                cachedTransformations.put(configuration.getUID(), new Scale(data, new RangeIndex(ranges, values)));
             } catch (IOException | NumberFormatException ignored) {
             }
         }
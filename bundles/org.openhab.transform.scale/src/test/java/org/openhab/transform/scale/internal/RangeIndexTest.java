@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class RangeIndexTest {
+
+    @Test
+    public void testAdjacentRanges() {
+        RangeIndex index = new RangeIndex(List.of(Range.closedOpen(BigDecimal.ZERO, BigDecimal.TEN),
+                Range.closed(BigDecimal.TEN, BigDecimal.valueOf(20)), Range.greaterThan(BigDecimal.valueOf(20))),
+                List.of("low", "middle", "high"));
+
+        assertNull(index.get(BigDecimal.valueOf(-1)));
+        assertEquals("low", index.get(BigDecimal.ZERO));
+        assertEquals("low", index.get(new BigDecimal("9.99")));
+        assertEquals("middle", index.get(BigDecimal.TEN));
+        assertEquals("middle", index.get(new BigDecimal("20.0")));
+        assertEquals("high", index.get(new BigDecimal("20.01")));
+    }
+
+    @Test
+    public void testOverlappingRangesKeepOrder() {
+        RangeIndex index = new RangeIndex(
+                List.of(Range.closed(BigDecimal.valueOf(5), BigDecimal.valueOf(15)),
+                        Range.closed(BigDecimal.ZERO, BigDecimal.valueOf(20)), Range.all()),
+                List.of("inner", "outer", "catchall"));
+
+        assertEquals("catchall", index.get(BigDecimal.valueOf(-1)));
+        assertEquals("outer", index.get(BigDecimal.ZERO));
+        assertEquals("outer", index.get(new BigDecimal("4.9")));
+        assertEquals("inner", index.get(BigDecimal.valueOf(5)));
+        assertEquals("inner", index.get(BigDecimal.valueOf(15)));
+        assertEquals("outer", index.get(new BigDecimal("15.1")));
+        assertEquals("catchall", index.get(BigDecimal.valueOf(21)));
+    }
+
+    @Test
+    public void testEmptyRangeIsIgnored() {
+        RangeIndex index = new RangeIndex(
+                List.of(Range.open(BigDecimal.ONE, BigDecimal.ONE), Range.atMost(BigDecimal.ONE)),
+                List.of("empty", "atMost"));
+
+        assertEquals("atMost", index.get(BigDecimal.ONE));
+        assertNull(index.get(BigDecimal.TEN));
+    }
+}
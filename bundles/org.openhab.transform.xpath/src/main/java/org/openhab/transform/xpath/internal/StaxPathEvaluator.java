@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.xpath.internal;
+
+import java.io.StringReader;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link StaxPathEvaluator} evaluates simple absolute paths like <code>/root/device/friendlyName</code> or
+ * <code>/root/device/@id</code> on a stream of XML events, without building a DOM.
+ *
+ * The result is the same as the string value of the XPath expression: the text content of the first matching element
+ * or the value of the first matching attribute, an empty string if nothing matches. As with a namespace aware DOM,
+ * unprefixed steps only match elements without a namespace. The whole document is read, so malformed documents are
+ * still rejected.
+ *
+ * @author Agent - Initial contribution
+ */
+@NonNullByDefault
+public class StaxPathEvaluator {
+    private static final String NAME = "[A-Za-z_][A-Za-z0-9_.-]*";
+    private static final Pattern SIMPLE_PATH = Pattern.compile("(/" + NAME + ")+(/@" + NAME + ")?");
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private final String[] steps;
+    private final @Nullable String attribute;
+
+    private StaxPathEvaluator(String[] steps, @Nullable String attribute) {
+        this.steps = steps;
+        this.attribute = attribute;
+    }
+
+    /**
+     * Creates an evaluator for the given expression.
+     *
+     * @param expression the XPath expression
+     * @return the evaluator or null if the expression is not a simple absolute path
+     */
+    public static @Nullable StaxPathEvaluator compile(String expression) {
+        if (!SIMPLE_PATH.matcher(expression).matches()) {
+            return null;
+        }
+        String[] parts = expression.substring(1).split("/");
+        String last = parts[parts.length - 1];
+        if (last.startsWith("@")) {
+            String[] steps = new String[parts.length - 1];
+            System.arraycopy(parts, 0, steps, 0, steps.length);
+            return new StaxPathEvaluator(steps, last.substring(1));
+        }
+        return new StaxPathEvaluator(parts, null);
+    }
+
+    /**
+     * Evaluates the path on the given document.
+     *
+     * @param source the XML document
+     * @return the result or null if the document contains a DTD and has to be evaluated with a DOM
+     * @throws XMLStreamException if the document is malformed
+     */
+    public @Nullable String evaluate(String source) throws XMLStreamException {
+        XMLStreamReader reader;
+        synchronized (INPUT_FACTORY) {
+            reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(source));
+        }
+        try {
+            String attribute = this.attribute;
+            String result = null;
+            StringBuilder text = null;
+            int depth = 0;
+            int matched = 0;
+            int targetDepth = -1;
+
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.DTD:
+                        // entities might be declared, leave that to the DOM parser
+                        return null;
+                    case XMLStreamConstants.START_ELEMENT:
+                        depth++;
+                        if (result == null && text == null && depth == matched + 1 && matched < steps.length
+                                && steps[matched].equals(reader.getLocalName())
+                                && isEmpty(reader.getNamespaceURI())) {
+                            matched++;
+                            if (matched == steps.length) {
+                                if (attribute == null) {
+                                    text = new StringBuilder();
+                                    targetDepth = depth;
+                                } else {
+                                    result = reader.getAttributeValue("", attribute);
+                                }
+                            }
+                        }
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        if (text != null) {
+                            text.append(reader.getText());
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        if (text != null && depth == targetDepth) {
+                            result = text.toString();
+                            text = null;
+                        }
+                        if (depth == matched) {
+                            matched--;
+                        }
+                        depth--;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return result == null ? "" : result;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static boolean isEmpty(@Nullable String namespace) {
+        return namespace == null || namespace.isEmpty();
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
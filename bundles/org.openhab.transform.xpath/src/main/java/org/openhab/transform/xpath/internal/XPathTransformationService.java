@@ -13,12 +13,17 @@
 package org.openhab.transform.xpath.internal;
 
 import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.xpath.XPath;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,14 +40,40 @@ import org.xml.sax.InputSource;
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XPath Expressions.
  *
+ * Document builders are pooled and compiled expressions are cached. Simple absolute paths are evaluated by the
+ * {@link StaxPathEvaluator} without building a DOM.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=XPATH" })
 public class XPathTransformationService implements TransformationService {
 
+    private static final int EXPRESSION_CACHE_SIZE = 256;
+    private static final int MAX_POOLED_INSTANCES = 8;
+
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
+    private @Nullable DocumentBuilderFactory domFactory;
+    private final XPathFactory xpathFactory = XPathFactory.newInstance();
+    private final Queue<DocumentBuilder> builders = new ConcurrentLinkedQueue<>();
+
+    private final Map<String, CachedExpression> expressionCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, CachedExpression> eldest) {
+            return size() > EXPRESSION_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Compiled expressions are not thread-safe, so each cached expression keeps a pool of them.
+     */
+    private record CachedExpression(@Nullable StaxPathEvaluator streamingEvaluator,
+            Queue<XPathExpression> expressions) {
+    }
+
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
@@ -51,10 +82,60 @@ public class XPathTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, xpathExpression);
 
-        StringReader stringReader = null;
-
         try {
-            DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
+            CachedExpression cachedExpression = getCachedExpression(xpathExpression);
+            String transformationResult = null;
+
+            StaxPathEvaluator streamingEvaluator = cachedExpression.streamingEvaluator();
+            if (streamingEvaluator != null) {
+                transformationResult = streamingEvaluator.evaluate(source);
+            }
+            if (transformationResult == null) {
+                transformationResult = evaluate(cachedExpression, xpathExpression, source);
+            }
+
+            logger.debug("transformation resulted in '{}'", transformationResult);
+
+            return transformationResult;
+        } catch (Exception e) {
+            throw new TransformationException("transformation throws exceptions", e);
+        }
+    }
+
+    private String evaluate(CachedExpression cachedExpression, String xpathExpression, String source)
+            throws Exception {
+        Document doc;
+        DocumentBuilder builder = builders.poll();
+        if (builder == null) {
+            builder = newDocumentBuilder();
+        }
+        try (StringReader stringReader = new StringReader(source)) {
+            InputSource inputSource = new InputSource(stringReader);
+            inputSource.setEncoding("UTF-8");
+
+            doc = builder.parse(inputSource);
+        } finally {
+            builder.reset();
+            if (builders.size() < MAX_POOLED_INSTANCES) {
+                builders.offer(builder);
+            }
+        }
+
+        XPathExpression expr = cachedExpression.expressions().poll();
+        if (expr == null) {
+            expr = compile(xpathExpression);
+        }
+        String result = (String) expr.evaluate(doc, XPathConstants.STRING);
+        if (cachedExpression.expressions().size() < MAX_POOLED_INSTANCES) {
+            cachedExpression.expressions().offer(expr);
+        }
+        return result;
+    }
+
+    private synchronized DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilderFactory domFactory = this.domFactory;
+        if (domFactory == null) {
+            domFactory = DocumentBuilderFactory.newInstance();
             // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
             domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
             domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
@@ -63,28 +144,35 @@ public class XPathTransformationService implements TransformationService {
             domFactory.setExpandEntityReferences(false);
             domFactory.setNamespaceAware(true);
             domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
-
-            stringReader = new StringReader(source);
-            InputSource inputSource = new InputSource(stringReader);
-            inputSource.setEncoding("UTF-8");
-
-            Document doc = builder.parse(inputSource);
-
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
-
-            String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
-
-            logger.debug("transformation resulted in '{}'", transformationResult);
+            this.domFactory = domFactory;
+        }
+        return domFactory.newDocumentBuilder();
+    }
 
-            return transformationResult;
-        } catch (Exception e) {
-            throw new TransformationException("transformation throws exceptions", e);
-        } finally {
-            if (stringReader != null) {
-                stringReader.close();
+    private CachedExpression getCachedExpression(String xpathExpression) throws XPathExpressionException {
+        CachedExpression cachedExpression;
+        synchronized (expressionCache) {
+            cachedExpression = expressionCache.get(xpathExpression);
+        }
+        if (cachedExpression == null) {
+            StaxPathEvaluator streamingEvaluator = StaxPathEvaluator.compile(xpathExpression);
+            Queue<XPathExpression> expressions = new ConcurrentLinkedQueue<>();
+            if (streamingEvaluator == null) {
+                // compile right away, so that invalid expressions are not cached
+                expressions.offer(compile(xpathExpression));
+            }
+            cachedExpression = new CachedExpression(streamingEvaluator, expressions);
+            synchronized (expressionCache) {
+                expressionCache.put(xpathExpression, cachedExpression);
             }
         }
+        return cachedExpression;
+    }
+
+    private XPathExpression compile(String xpathExpression) throws XPathExpressionException {
+        // neither XPathFactory nor XPath are guaranteed to be thread-safe
+        synchronized (xpathFactory) {
+            return xpathFactory.newXPath().compile(xpathExpression);
+        }
     }
 }
@@ -38,4 +38,36 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformBySimplePath() throws TransformationException {
+        assertEquals("8", processor.transform("/xml_api_reply/weather/current_conditions/temp_c/@data", source));
+        assertEquals("Krefeld Germany",
+                processor.transform("/xml_api_reply/weather/forecast_information/postal_code/@data", source));
+        assertEquals("", processor.transform("/xml_api_reply/unknown", source));
+    }
+
+    @Test
+    public void testSimplePathReturnsTextContent() throws TransformationException {
+        String xml = "<root><device><name>Box<![CDATA[ & ]]>7590</name></device><device><name>Other</name></device></root>";
+        assertEquals("Box & 7590", processor.transform("/root/device/name", xml));
+        assertEquals("Box & 7590Other", processor.transform("/root", xml));
+    }
+
+    @Test
+    public void testSimplePathIgnoresNamespacedElements() throws TransformationException {
+        String xml = "<root xmlns=\"urn:schemas-upnp-org:device-1-0\"><device>name</device></root>";
+        assertEquals("", processor.transform("/root/device", xml));
+        assertEquals("name", processor.transform("/*[local-name()='root']/*[local-name()='device']", xml));
+    }
+
+    @Test
+    public void testSimplePathOnMalformedDocumentThrowsException() {
+        assertThrows(TransformationException.class, () -> processor.transform("/root/device", "<root><device>1"));
+    }
+
+    @Test
+    public void testInvalidExpressionThrowsException() {
+        assertThrows(TransformationException.class, () -> processor.transform("//[", source));
+    }
 }
@@ -15,9 +15,17 @@ package org.openhab.transform.xslt.internal;
 import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -25,9 +33,13 @@ import javax.xml.transform.stream.StreamSource;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,14 +47,49 @@ import org.slf4j.LoggerFactory;
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XSLT.
  *
+ * Compiled stylesheets are cached until a file in the transformation folder changes. Each stylesheet keeps a small
+ * pool of transformers, so concurrent transformations neither wait for each other nor compile the stylesheet again.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=XSLT" })
-public class XsltTransformationService implements TransformationService {
+public class XsltTransformationService implements TransformationService, WatchService.WatchEventListener {
+
+    private static final int MAX_POOLED_TRANSFORMERS = 8;
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    private final WatchService watchService;
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    private final Map<String, CachedTemplates> cachedTemplates = new ConcurrentHashMap<>();
+    // counts the changes of the transformation folder, stylesheets compiled before the last change are outdated
+    private final AtomicLong generation = new AtomicLong();
+
+    private record CachedTemplates(Templates templates, Queue<Transformer> transformers, long generation) {
+    }
+
+    @Activate
+    public XsltTransformationService(
+            final @Reference(target = WatchService.CONFIG_WATCHER_FILTER) WatchService watchService) {
+        this.watchService = watchService;
+        watchService.registerListener(this, Path.of(TransformationService.TRANSFORM_FOLDER_NAME));
+    }
+
+    @Deactivate
+    public void deactivate() {
+        watchService.unregisterListener(this);
+        cachedTemplates.clear();
+    }
+
+    @Override
+    public void processWatchEvent(WatchService.Kind kind, Path path) {
+        // stylesheets may include other files, so drop all of them
+        logger.debug("Transformation file '{}' changed, clearing cached stylesheets", path);
+        generation.incrementAndGet();
+        cachedTemplates.clear();
+    }
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -60,36 +107,66 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
-
-        try {
-            String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
-                    + File.separator + filename;
-            xsl = new StreamSource(new File(path));
-        } catch (Exception e) {
-            String message = "opening file '" + filename + "' throws exception";
-
-            logger.error("{}", message, e);
-            throw new TransformationException(message, e);
+        // a stylesheet compiled while the folder changed may be put after the cache was cleared, check its generation
+        long currentGeneration = generation.get();
+        CachedTemplates templates = cachedTemplates.get(filename);
+        if (templates == null || templates.generation() != currentGeneration) {
+            templates = compile(filename, currentGeneration);
+            cachedTemplates.put(filename, templates);
         }
 
-        logger.debug("about to transform '{}' by the function '{}'", source, xsl);
+        logger.debug("about to transform '{}' by the function '{}'", source, filename);
 
         StringReader xml = new StringReader(source);
         StringWriter out = new StringWriter();
 
-        Transformer transformer;
+        Transformer transformer = templates.transformers().poll();
 
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
+            if (transformer == null) {
+                transformer = templates.templates().newTransformer();
+            }
             transformer.transform(new StreamSource(xml), new StreamResult(out));
         } catch (Exception e) {
             logger.error("transformation throws exception", e);
             throw new TransformationException("transformation throws exception", e);
         }
 
+        // only return transformers to the pool after a successful transformation
+        transformer.reset();
+        if (templates.transformers().size() < MAX_POOLED_TRANSFORMERS) {
+            templates.transformers().offer(transformer);
+        }
+
         logger.debug("transformation resulted in '{}'", out.toString());
 
         return out.toString();
     }
+
+    private CachedTemplates compile(String filename, long generation) throws TransformationException {
+        Source xsl = null;
+
+        try {
+            String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
+                    + File.separator + filename;
+            xsl = new StreamSource(new File(path));
+        } catch (Exception e) {
+            String message = "opening file '" + filename + "' throws exception";
+
+            logger.error("{}", message, e);
+            throw new TransformationException(message, e);
+        }
+
+        try {
+            Templates templates;
+            // TransformerFactory is not guaranteed to be thread-safe
+            synchronized (transformerFactory) {
+                templates = transformerFactory.newTemplates(xsl);
+            }
+            return new CachedTemplates(templates, new ConcurrentLinkedQueue<>(), generation);
+        } catch (TransformerConfigurationException e) {
+            logger.error("transformation throws exception", e);
+            throw new TransformationException("transformation throws exception", e);
+        }
+    }
 }